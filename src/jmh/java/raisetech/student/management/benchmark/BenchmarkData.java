@@ -0,0 +1,88 @@
+package raisetech.student.management.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.StudentDetail;
+
+/**
+ * ベンチマーク用の受講生・コース情報・申込状況を生成します。
+ * 受講生1人あたりのコース数は固定で、各コースに申込状況が1件ずつ紐づきます。
+ */
+final class BenchmarkData {
+
+  static final int COURSES_PER_STUDENT = 3;
+
+  static final String[] COURSE_NAMES = {"Javaコース", "AWSコース", "デザインコース", "Web制作コース"};
+
+  static final String[] STATUSES = {"仮申込", "本申込", "受講中", "受講終了"};
+
+  private BenchmarkData() {
+  }
+
+  static List<Student> students(int count) {
+    List<Student> studentList = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      studentList.add(student(i));
+    }
+    return studentList;
+  }
+
+  static Student student(int id) {
+    Student student = new Student();
+    student.setId(id);
+    student.setName("受講生" + id);
+    student.setKanaName("ジュコウセイ");
+    student.setNickname("nick" + id);
+    student.setEmailAddress("student" + id + "@example.com");
+    student.setResidence("東京");
+    student.setAge(18 + id % 60);
+    student.setGender(id % 2 == 0 ? "女性" : "男性");
+    student.setRemark("備考" + id);
+    return student;
+  }
+
+  static List<Course> courses(int studentCount) {
+    List<Course> courseList = new ArrayList<>(studentCount * COURSES_PER_STUDENT);
+    int courseId = 1;
+    for (int studentId = 1; studentId <= studentCount; studentId++) {
+      for (int i = 0; i < COURSES_PER_STUDENT; i++) {
+        Course course = new Course();
+        course.setId(courseId++);
+        course.setStudentId(studentId);
+        course.setCourseName(COURSE_NAMES[(studentId + i) % COURSE_NAMES.length]);
+        course.setCourseStartAt(LocalDate.of(2024, 4, 1));
+        course.setCourseEndAt(LocalDate.of(2024, 10, 1));
+        courseList.add(course);
+      }
+    }
+    return courseList;
+  }
+
+  static List<ApplicationStatus> statuses(List<Course> courseList) {
+    List<ApplicationStatus> statusList = new ArrayList<>(courseList.size());
+    for (Course course : courseList) {
+      ApplicationStatus status = new ApplicationStatus();
+      status.setId(course.getId());
+      status.setCourseId(course.getId());
+      status.setApplicationStatus(STATUSES[course.getId() % STATUSES.length]);
+      statusList.add(status);
+    }
+    return statusList;
+  }
+
+  static StudentDetail studentDetail(int id) {
+    Student student = student(id);
+    List<CourseDetail> courseDetailList = new ArrayList<>(COURSES_PER_STUDENT);
+    List<Course> courseList = courses(1);
+    List<ApplicationStatus> statusList = statuses(courseList);
+    for (int i = 0; i < courseList.size(); i++) {
+      courseDetailList.add(new CourseDetail(courseList.get(i), statusList.get(i)));
+    }
+    return new StudentDetail(student, courseDetailList);
+  }
+}
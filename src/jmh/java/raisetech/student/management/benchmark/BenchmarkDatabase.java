@@ -0,0 +1,110 @@
+package raisetech.student.management.benchmark;
+
+import java.util.List;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.flywaydb.core.Flyway;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * ベンチマーク用の組み込みH2データベースです。
+ * アプリケーションと同じマイグレーションでテーブルとインデックスを作成し、BenchmarkDataの受講生詳細を投入したうえでMainRepositoryを提供します。
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+  private final EmbeddedDatabase dataSource;
+
+  private final SqlSessionFactory sqlSessionFactory;
+
+  private final MainRepository repository;
+
+  BenchmarkDatabase(int studentCount) throws Exception {
+    dataSource = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .generateUniqueName(true)
+        .build();
+    Flyway.configure()
+        .dataSource(dataSource)
+        .load()
+        .migrate();
+    seed(new JdbcTemplate(dataSource), studentCount);
+
+    Configuration configuration = new Configuration();
+    configuration.setMapUnderscoreToCamelCase(true);
+    SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setConfiguration(configuration);
+    factoryBean.setMapperLocations(
+        new PathMatchingResourcePatternResolver().getResources("classpath*:/mapper/*.xml"));
+    sqlSessionFactory = factoryBean.getObject();
+    repository = new SqlSessionTemplate(sqlSessionFactory).getMapper(MainRepository.class);
+  }
+
+  EmbeddedDatabase dataSource() {
+    return dataSource;
+  }
+
+  SqlSessionFactory sqlSessionFactory() {
+    return sqlSessionFactory;
+  }
+
+  MainRepository repository() {
+    return repository;
+  }
+
+  @Override
+  public void close() {
+    dataSource.shutdown();
+  }
+
+  private static void seed(JdbcTemplate jdbcTemplate, int studentCount) {
+    List<Student> studentList = BenchmarkData.students(studentCount);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO students (id, name, kana_name, nickname, email_address, residence, age, gender, remark, was_deleted)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)",
+        studentList, 1000, (ps, student) -> {
+          ps.setInt(1, student.getId());
+          ps.setString(2, student.getName());
+          ps.setString(3, student.getKanaName());
+          ps.setString(4, student.getNickname());
+          ps.setString(5, student.getEmailAddress());
+          ps.setString(6, student.getResidence());
+          ps.setInt(7, student.getAge());
+          ps.setString(8, student.getGender());
+          ps.setString(9, student.getRemark());
+        });
+
+    List<Course> courseList = BenchmarkData.courses(studentCount);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO student_courses (id, student_id, course_name, course_start_at, course_end_at)"
+            + " VALUES (?, ?, ?, ?, ?)",
+        courseList, 1000, (ps, course) -> {
+          ps.setInt(1, course.getId());
+          ps.setInt(2, course.getStudentId());
+          ps.setString(3, course.getCourseName());
+          ps.setObject(4, course.getCourseStartAt().atStartOfDay());
+          ps.setObject(5, course.getCourseEndAt().atStartOfDay());
+        });
+
+    List<ApplicationStatus> statusList = BenchmarkData.statuses(courseList);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO application_status (id, course_id, application_status) VALUES (?, ?, ?)",
+        statusList, 1000, (ps, status) -> {
+          ps.setInt(1, status.getId());
+          ps.setInt(2, status.getCourseId());
+          ps.setString(3, status.getApplicationStatus());
+        });
+
+    jdbcTemplate.execute("ALTER TABLE students ALTER COLUMN id RESTART WITH " + (studentCount + 1));
+  }
+}
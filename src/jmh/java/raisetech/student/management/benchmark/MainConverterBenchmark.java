@@ -0,0 +1,50 @@
+package raisetech.student.management.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import raisetech.student.management.controller.converter.MainConverter;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.StudentDetail;
+
+/**
+ * MainConverter.convertDetailsのベンチマークです。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MainConverterBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  private int studentCount;
+
+  private MainConverter converter;
+
+  private List<Student> studentList;
+
+  private List<Course> courseList;
+
+  private List<ApplicationStatus> statusList;
+
+  @Setup
+  public void setUp() {
+    converter = new MainConverter();
+    studentList = BenchmarkData.students(studentCount);
+    courseList = BenchmarkData.courses(studentCount);
+    statusList = BenchmarkData.statuses(courseList);
+  }
+
+  @Benchmark
+  public List<StudentDetail> convertDetails() {
+    return converter.convertDetails(studentList, courseList, statusList);
+  }
+}
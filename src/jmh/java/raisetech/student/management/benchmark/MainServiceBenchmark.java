@@ -0,0 +1,100 @@
+package raisetech.student.management.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import raisetech.student.management.controller.converter.MainConverter;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentPage;
+import raisetech.student.management.service.EnrollmentCounter;
+import raisetech.student.management.service.MainService;
+import raisetech.student.management.service.ParallelQueryExecutor;
+import raisetech.student.management.service.RequestCoalescer;
+import raisetech.student.management.service.StudentDetailCache;
+import raisetech.student.management.service.StudentDetailUpdater;
+import raisetech.student.management.service.StudentSearchCache;
+import raisetech.student.management.service.StudentSearchIndex;
+
+/**
+ * MainServiceの検索処理を、組み込みH2に対してMyBatisのマッパー経由で計測するベンチマークです。
+ * joinFetchで3クエリ方式と結合クエリ方式を、parallelFetchでコース情報と申込状況の並行取得を、
+ * searchIndexで検索インデックスによる氏名・メールアドレスの絞り込みを切り替えて比較します。受講生詳細キャッシュは無効にして計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MainServiceBenchmark {
+
+  @Param({"1000", "10000"})
+  private int studentCount;
+
+  @Param({"false", "true"})
+  private boolean joinFetch;
+
+  @Param({"false", "true"})
+  private boolean parallelFetch;
+
+  @Param({"false", "true"})
+  private boolean searchIndex;
+
+  private BenchmarkDatabase database;
+
+  private ParallelQueryExecutor queryExecutor;
+
+  private MainService service;
+
+  @Setup
+  public void setUp() throws Exception {
+    database = new BenchmarkDatabase(studentCount);
+    queryExecutor = new ParallelQueryExecutor(parallelFetch, 8);
+    StudentSearchIndex index = new StudentSearchIndex(database.repository(),
+        new DataSourceTransactionManager(database.dataSource()), searchIndex, 1000);
+    index.build();
+    service = new MainService(
+        database.repository(), new MainConverter(), new StudentDetailCache(0, 300),
+        queryExecutor, index, new RequestCoalescer(false, 0),
+        new StudentDetailUpdater(database.repository()), new StudentSearchCache(0, 30, 300),
+        new EnrollmentCounter(database.repository(), 0), joinFetch);
+  }
+
+  @TearDown
+  public void tearDown() {
+    queryExecutor.destroy();
+    database.close();
+  }
+
+  @Benchmark
+  public StudentDetail searchStudentId() {
+    return service.searchStudentId(ThreadLocalRandom.current().nextInt(1, studentCount + 1));
+  }
+
+  @Benchmark
+  public List<StudentDetail> searchStudentList() {
+    return service.searchStudentList(null, null, null, null, null);
+  }
+
+  @Benchmark
+  public List<StudentDetail> searchStudentListByCourseName() {
+    return service.searchStudentList(null, null, null, "Java", null);
+  }
+
+  @Benchmark
+  public List<StudentDetail> searchStudentListByName() {
+    return service.searchStudentList("受講生123", null, null, null, null);
+  }
+
+  @Benchmark
+  public StudentPage searchStudentPage() {
+    return service.searchStudentPage(null, null, null, null, null, null, 100);
+  }
+}
@@ -0,0 +1,113 @@
+package raisetech.student.management.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import raisetech.student.management.controller.converter.MainConverter;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.service.EnrollmentCounter;
+import raisetech.student.management.service.MainService;
+import raisetech.student.management.service.ParallelQueryExecutor;
+import raisetech.student.management.service.RequestCoalescer;
+import raisetech.student.management.service.StudentDetailCache;
+import raisetech.student.management.service.StudentDetailUpdater;
+import raisetech.student.management.service.StudentSearchCache;
+import raisetech.student.management.service.StudentSearchIndex;
+
+/**
+ * リクエストを処理するスレッドの方式（Tomcatのプラットフォームスレッド/仮想スレッド）を比較する負荷試験です。
+ * 400のクライアントスレッドが同時にGET /students/{id}相当のリクエストを送り続け、
+ * Throughputで1秒あたりのリクエスト数を、SampleTimeでリクエストごとの応答時間の分布（p99を含む）を計測します。
+ * platformはTomcatの既定（最大200スレッド）のスレッドプール、virtualはリクエストごとの仮想スレッドで処理します。
+ * どちらもコネクションプール（既定10）に見立てたセマフォの枠内でデータベースにアクセスし、
+ * 組み込みH2にはネットワーク待ちがないため、dbLatencyMillisだけ枠を保持してMySQLとの往復を模擬します。
+ * otherLatencyMillisは、データベース以外の待ち（外部APIの呼び出しやクライアントへの書き出し）を模擬します。
+ * Tomcatでのリクエスト処理やMySQL Connector/Jは実行しない合成モデルで、アプリケーション全体の負荷試験の代わりにはなりません。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class RequestExecutionBenchmark {
+
+  private static final int TOMCAT_MAX_THREADS = 200;
+
+  private static final int CONNECTION_POOL_SIZE = 10;
+
+  private static final int STUDENT_COUNT = 10000;
+
+  @Param({"platform", "virtual"})
+  private String threadModel;
+
+  @Param({"2"})
+  private int dbLatencyMillis;
+
+  @Param({"0", "20"})
+  private int otherLatencyMillis;
+
+  private BenchmarkDatabase database;
+
+  private ParallelQueryExecutor queryExecutor;
+
+  private MainService service;
+
+  private ExecutorService requestExecutor;
+
+  private Semaphore connectionPermits;
+
+  @Setup
+  public void setUp() throws Exception {
+    database = new BenchmarkDatabase(STUDENT_COUNT);
+    queryExecutor = new ParallelQueryExecutor(false, 8);
+    service = new MainService(
+        database.repository(), new MainConverter(), new StudentDetailCache(0, 300), queryExecutor,
+        new StudentSearchIndex(database.repository(), new DataSourceTransactionManager(database.dataSource()),
+            false, 1000),
+        new RequestCoalescer(false, 0), new StudentDetailUpdater(database.repository()),
+        new StudentSearchCache(0, 30, 300), new EnrollmentCounter(database.repository(), 0), false);
+    requestExecutor = threadModel.equals("virtual")
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    connectionPermits = new Semaphore(CONNECTION_POOL_SIZE, true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    requestExecutor.shutdownNow();
+    queryExecutor.destroy();
+    database.close();
+  }
+
+  @Benchmark
+  public StudentDetail getStudent() throws Exception {
+    return requestExecutor.submit(this::handleRequest).get();
+  }
+
+  private StudentDetail handleRequest() throws InterruptedException {
+    StudentDetail studentDetail;
+    connectionPermits.acquire();
+    try {
+      studentDetail = service.searchStudentId(ThreadLocalRandom.current().nextInt(1, STUDENT_COUNT + 1));
+      Thread.sleep(dbLatencyMillis);
+    } finally {
+      connectionPermits.release();
+    }
+    if (otherLatencyMillis > 0) {
+      Thread.sleep(otherLatencyMillis);
+    }
+    return studentDetail;
+  }
+}
@@ -0,0 +1,92 @@
+package raisetech.student.management.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * 受講生の条件付き検索のベンチマークです。
+ * EXISTSによる現在のsearchStudentByCriteriaと、以前のLEFT JOIN + DISTINCTによる検索を同じ条件で比較します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StudentCriteriaSearchBenchmark {
+
+  @Param({"10000", "100000"})
+  private int studentCount;
+
+  @Param({"none", "name", "courseName", "courseNameAndStatus"})
+  private String criteria;
+
+  private BenchmarkDatabase database;
+
+  private MainRepository repository;
+
+  private JdbcTemplate jdbcTemplate;
+
+  private BeanPropertyRowMapper<Student> rowMapper = new BeanPropertyRowMapper<>(Student.class);
+
+  private String name;
+
+  private String courseName;
+
+  private String applicationStatus;
+
+  @Setup
+  public void setUp() throws Exception {
+    database = new BenchmarkDatabase(studentCount);
+    repository = database.repository();
+    jdbcTemplate = new JdbcTemplate(database.dataSource());
+    name = criteria.equals("name") ? "受講生12" : null;
+    courseName = criteria.startsWith("courseName") ? "Java" : null;
+    applicationStatus = criteria.equals("courseNameAndStatus") ? "受講中" : null;
+  }
+
+  @TearDown
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public List<Student> existsSearch() {
+    return repository.searchStudentByCriteria(
+        name, null, null, courseName, applicationStatus, null);
+  }
+
+  @Benchmark
+  public List<Student> leftJoinDistinctSearch() {
+    StringBuilder sql = new StringBuilder(
+        "SELECT DISTINCT s.id, s.name, s.kana_name, s.nickname, s.email_address, s.residence,"
+            + " s.age, s.gender, s.remark, s.was_deleted FROM students s"
+            + " LEFT JOIN student_courses c ON s.id = c.student_id"
+            + " LEFT JOIN application_status a ON c.id = a.course_id WHERE 1 = 1");
+    List<Object> args = new ArrayList<>();
+    if (name != null) {
+      sql.append(" AND s.name LIKE CONCAT('%', ?, '%')");
+      args.add(name);
+    }
+    if (courseName != null) {
+      sql.append(" AND c.course_name LIKE CONCAT('%', ?, '%')");
+      args.add(courseName);
+    }
+    if (applicationStatus != null) {
+      sql.append(" AND a.application_status LIKE CONCAT('%', ?, '%')");
+      args.add(applicationStatus);
+    }
+    return jdbcTemplate.query(sql.toString(), rowMapper, args.toArray());
+  }
+}
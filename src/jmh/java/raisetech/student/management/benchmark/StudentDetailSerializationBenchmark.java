@@ -0,0 +1,54 @@
+package raisetech.student.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentFields;
+
+/**
+ * 受講生詳細のJSONシリアライズのベンチマークです。
+ * ObjectMapperはSpring MVCと同じ既定設定で生成します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentDetailSerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+
+  private StudentDetail studentDetail;
+
+  private List<StudentDetail> studentDetailList;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json()
+        .filters(StudentFields.allFields())
+        .build();
+    studentDetail = BenchmarkData.studentDetail(1);
+    studentDetailList = new ArrayList<>(100);
+    for (int i = 1; i <= 100; i++) {
+      studentDetailList.add(BenchmarkData.studentDetail(i));
+    }
+  }
+
+  @Benchmark
+  public byte[] serializeStudentDetail() throws Exception {
+    return objectMapper.writeValueAsBytes(studentDetail);
+  }
+
+  @Benchmark
+  public byte[] serializeStudentDetailList() throws Exception {
+    return objectMapper.writeValueAsBytes(studentDetailList);
+  }
+}
@@ -0,0 +1,23 @@
+package raisetech.student.management.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import raisetech.student.management.domain.StudentFields;
+
+/**
+ * JSONのシリアライズ設定です。
+ */
+@Configuration
+public class JacksonConfig {
+
+  /**
+   * fieldsパラメータの指定がないレスポンスでは、受講生詳細の全項目を出力します。
+   *
+   * @return　ObjectMapperのカスタマイザー
+   */
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer studentFieldsFilterCustomizer() {
+    return builder -> builder.filters(StudentFields.allFields());
+  }
+}
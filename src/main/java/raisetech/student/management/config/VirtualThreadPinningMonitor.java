@@ -0,0 +1,116 @@
+package raisetech.student.management.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 仮想スレッドがキャリアスレッドに固定（pinning）されたことを、JFRのjdk.VirtualThreadPinnedイベントで検出します。
+ * synchronizedブロック内でのI/O待ちなどで固定されると、キャリアスレッド数しか並行に処理できなくなるため、
+ * 検出した場合はスタックトレースをログに出力し、件数と直近のスタックトレースを保持します。
+ * MySQL Connector/JやMyBatisを経由するMainServiceの処理で固定が起きていないかを、本番相当の環境で確認するために使用します。
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  /** 記録するスタックトレースの深さです（JFRの既定のstackdepthと同じ）。固定の原因になったフレームが含まれるように浅くしません。 */
+  private static final int STACK_DEPTH = 64;
+
+  private RecordingStream stream;
+
+  private Duration threshold;
+
+  private int historySize;
+
+  private LongAdder pinnedCount = new LongAdder();
+
+  private Deque<String> recentStackTraces = new ConcurrentLinkedDeque<>();
+
+  @Autowired
+  public VirtualThreadPinningMonitor(
+      @Value("${student.virtual-threads.pinning-threshold-millis:20}") long thresholdMillis,
+      @Value("${student.virtual-threads.pinning-history-size:20}") int historySize) {
+    this.threshold = Duration.ofMillis(thresholdMillis);
+    this.historySize = historySize;
+  }
+
+  /**
+   * 検出を開始します。
+   */
+  @Override
+  public void afterPropertiesSet() {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::onPinned);
+    stream.startAsync();
+  }
+
+  /**
+   * 検出を終了します。終了までに記録されたイベントは処理してから終了します。
+   */
+  @Override
+  public void destroy() {
+    if (stream != null) {
+      stream.stop();
+      stream.close();
+      stream = null;
+    }
+  }
+
+  /**
+   * 固定を検出した件数を取得します。
+   *
+   * @return　固定を検出した件数
+   */
+  public long pinnedCount() {
+    return pinnedCount.sum();
+  }
+
+  /**
+   * 直近に固定を検出した時のスタックトレースを、新しい順に取得します。
+   *
+   * @return　スタックトレース（フレームを改行で連結した文字列）
+   */
+  public List<String> recentStackTraces() {
+    return new ArrayList<>(recentStackTraces);
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedCount.increment();
+    String stackTrace = (event.getStackTrace() == null) ? "" : event.getStackTrace().getFrames().stream()
+        .limit(STACK_DEPTH)
+        .map(VirtualThreadPinningMonitor::format)
+        .collect(Collectors.joining("\n"));
+    recentStackTraces.addFirst(stackTrace);
+    while (recentStackTraces.size() > historySize) {
+      recentStackTraces.pollLast();
+    }
+    log.warn("仮想スレッドがキャリアスレッドに固定されました。duration={}ms, stack=\n{}",
+        event.getDuration().toMillis(), stackTrace);
+  }
+
+  private static String format(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+        + ":" + frame.getLineNumber();
+  }
+}
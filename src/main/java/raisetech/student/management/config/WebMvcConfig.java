@@ -0,0 +1,32 @@
+package raisetech.student.management.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import raisetech.student.management.controller.limiter.EndpointBulkheadInterceptor;
+
+/**
+ * Spring MVCの設定です。
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  private EndpointBulkheadInterceptor bulkheadInterceptor;
+
+  @Autowired
+  public WebMvcConfig(EndpointBulkheadInterceptor bulkheadInterceptor) {
+    this.bulkheadInterceptor = bulkheadInterceptor;
+  }
+
+  /**
+   * 受講生APIに、エンドポイントごとの同時実行数制限を適用します。
+   *
+   * @param registry　InterceptorRegistry
+   */
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(bulkheadInterceptor)
+        .addPathPatterns("/students", "/students/**");
+  }
+}
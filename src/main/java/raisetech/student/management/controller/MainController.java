@@ -9,23 +9,62 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import raisetech.student.management.controller.handler.exception.InvalidStudentPatchEx;
 import raisetech.student.management.controller.handler.response.ApiErrorResponse;
 import raisetech.student.management.controller.handler.response.ValidationErrorResponse;
+import raisetech.student.management.domain.BulkRegisterResult;
+import raisetech.student.management.domain.ExportFormat;
+import raisetech.student.management.domain.ExportJobStatus;
+import raisetech.student.management.domain.StudentBatchGetResult;
 import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentFields;
+import raisetech.student.management.domain.StudentImportResult;
+import raisetech.student.management.domain.StudentPage;
+import raisetech.student.management.domain.StudentPatch;
+import raisetech.student.management.domain.StudentUpdateResult;
 import raisetech.student.management.service.MainService;
+import raisetech.student.management.service.StudentBulkService;
+import raisetech.student.management.service.StudentExportJobService;
+import raisetech.student.management.service.StudentExportService;
+import raisetech.student.management.service.StudentImportService;
 
 /**
  *  受講生の検索や登録、更新などを行うREST APIとして受け付けるControllerです。
@@ -37,28 +76,53 @@ public class MainController {
 
   private MainService service;
 
+  private StudentExportService exportService;
+
+  private StudentBulkService bulkService;
+
+  private StudentImportService importService;
+
+  private StudentExportJobService exportJobService;
+
+  private Validator validator;
+
   @Autowired
-  public MainController(MainService service) {
+  public MainController(
+      MainService service,
+      StudentExportService exportService,
+      StudentBulkService bulkService,
+      StudentImportService importService,
+      StudentExportJobService exportJobService,
+      Validator validator) {
     this.service = service;
+    this.exportService = exportService;
+    this.bulkService = bulkService;
+    this.importService = importService;
+    this.exportJobService = exportJobService;
+    this.validator = validator;
   }
 
   /**
    * 受講生詳細の一覧検索です。
-   * 全件検索を行うので、条件指定は行わないません。
+   * 受講生IDをカーソルとしたページ単位で検索を行います。次ページは、レスポンスのnextCursorをafterに指定して取得します。
+   * fieldsを指定した場合は、指定した項目のみを検索して返します。
    *
-   * @return　受講生詳細一覧（全件）
+   * @return　受講生詳細一覧（1ページ分）
    */
   @ApiResponses(value = {
       // 200 OK Response (Found)
       @ApiResponse(responseCode = "200", description = "一覧検索成功",
-          content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentDetail[].class))),
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentPage.class))),
+      // 400 Bad Request
+      @ApiResponse(responseCode = "400", description = "ページ指定が不正です",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ValidationErrorResponse.class))),
       // 500 Interval Server Error
       @ApiResponse(responseCode = "500", description = "サーバーエラー (Internal Server Error)",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
   })
   @Operation(summary = "一覧検索", description = "受講生の一覧を検索します。")
   @GetMapping("/students")
-  public List<StudentDetail> getStudentList(
+  public MappingJacksonValue getStudentList(
       @Parameter(description = "検索する氏名", example = "John")
       @RequestParam(required = false) String name,
 
@@ -72,14 +136,194 @@ public class MainController {
       @RequestParam(required = false) String courseName,
 
       @Parameter(description = "検索する申込状況 (例: 本申込, 受講中)", example = "本申込")
-      @RequestParam(required = false) String applicationStatus
+      @RequestParam(required = false) String applicationStatus,
+
+      @Parameter(description = "前ページのnextCursor（先頭ページの場合は指定しない）", example = "120")
+      @RequestParam(required = false) Integer after,
+
+      @Parameter(description = "1ページの取得件数 (1〜1000)", example = "100")
+      @RequestParam(defaultValue = "100")
+      @Min(value = 1, message = "取得件数は1以上である必要があります。")
+      @Max(value = 1000, message = "取得件数は1000以下である必要があります。")
+      int limit,
+
+      @Parameter(description = "レスポンスに含める項目のカンマ区切り（courseDetailListを含めない場合はコース情報を取得しません）",
+          example = "id,name,emailAddress")
+      @RequestParam(required = false)
+      @Pattern(regexp = StudentFields.PATTERN, message = "取得する項目の指定が不正です。")
+      String fields
   ) {
-    return service.searchStudentList(name, emailAddress, gender, courseName, applicationStatus);
+    StudentFields studentFields = StudentFields.parse(fields);
+    if (studentFields == null) {
+      return new MappingJacksonValue(service.searchStudentPage(
+          name, emailAddress, gender, courseName, applicationStatus, after, limit));
+    }
+    MappingJacksonValue response = new MappingJacksonValue(service.searchStudentPage(
+        name, emailAddress, gender, courseName, applicationStatus, after, limit, studentFields));
+    response.setFilters(studentFields.filterProvider());
+    return response;
+  }
+
+  /**
+   * 受講生詳細のエクスポートです。
+   * 全受講生の受講生詳細を1行1件のNDJSON形式で、読み出しながら順次レスポンスに書き出します。
+   *
+   * @return　受講生詳細（NDJSON）
+   */
+  @ApiResponses(value = {
+      // 200 OK Response
+      @ApiResponse(responseCode = "200", description = "エクスポート成功",
+          content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = StudentDetail.class))),
+      // 500 Interval Server Error
+      @ApiResponse(responseCode = "500", description = "サーバーエラー (Internal Server Error)",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+  })
+  @Operation(summary = "受講生詳細エクスポート", description = "全受講生の受講生詳細をNDJSON形式で出力します。")
+  @GetMapping(value = "/students/export", produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> exportStudents() {
+    StreamingResponseBody body = outputStream -> exportService.exportStudents(outputStream);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType("application/x-ndjson"))
+        .body(body);
+  }
+
+  /**
+   * 受講生詳細のエクスポートジョブを受け付けます。
+   * エクスポートはバックグラウンドで実行し、進捗はジョブの状態で確認します。完了後はファイルをダウンロードできます。
+   *
+   * @param format　ファイル形式（csv/ndjson）
+   * @return　受け付けたジョブの状態
+   */
+  @ApiResponses(value = {
+      // 202 Accepted
+      @ApiResponse(responseCode = "202", description = "受付成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExportJobStatus.class))),
+      // 400 Bad Request
+      @ApiResponse(responseCode = "400", description = "ファイル形式の指定が不正です",
+          content = @Content(mediaType = "application/json")),
+      // 503 Service Unavailable
+      @ApiResponse(responseCode = "503", description = "エクスポートジョブの上限に達しています",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+  })
+  @Operation(summary = "受講生詳細エクスポートジョブ登録", description = "全受講生の受講生詳細をgzip圧縮したCSV/NDJSONファイルに書き出すジョブを登録します。")
+  @PostMapping("/students/exports")
+  public ResponseEntity<ExportJobStatus> submitExportJob(
+      @RequestParam(defaultValue = "csv")
+      @Pattern(regexp = ExportFormat.PATTERN, message = "ファイル形式はcsvまたはndjsonを指定してください。")
+      String format) {
+    ExportJobStatus status = exportJobService.submit(ExportFormat.of(format));
+    return ResponseEntity.accepted()
+        .location(URI.create("/students/exports/" + status.getJobId()))
+        .body(status);
+  }
+
+  /**
+   * 受講生詳細のエクスポートジョブの状態（進捗）を取得します。
+   *
+   * @param jobId　ジョブID
+   * @return　ジョブの状態
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExportJobStatus.class))),
+      @ApiResponse(responseCode = "404", description = "ジョブが見つかりませんでした。")
+  })
+  @Operation(summary = "受講生詳細エクスポートジョブ状態", description = "エクスポートジョブの状態と書き出し済みの件数を取得します。")
+  @GetMapping("/students/exports/{jobId}")
+  public ResponseEntity<ExportJobStatus> getExportJob(@PathVariable("jobId") String jobId) {
+    ExportJobStatus status = exportJobService.status(jobId);
+    if (status == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(status);
+  }
+
+  /**
+   * 完了したエクスポートジョブのファイルをダウンロードします。
+   * Tomcatのsendfileが使える場合はファイルをカーネル内でそのまま送信し、使えない場合はFileChannel.transferToで書き出します。
+   * ファイルは完了の確認後に開くため、その間に取り消しや保持期間の経過で削除された場合は404を返します。
+   *
+   * @param jobId　ジョブID
+   * @return　エクスポートファイル（gzip）
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "ダウンロード成功",
+          content = @Content(mediaType = "application/gzip")),
+      @ApiResponse(responseCode = "404", description = "ジョブまたはファイルが見つかりませんでした。"),
+      @ApiResponse(responseCode = "409", description = "ジョブが完了していません。")
+  })
+  @Operation(summary = "受講生詳細エクスポートファイル", description = "完了したエクスポートジョブのファイルをダウンロードします。")
+  @GetMapping("/students/exports/{jobId}/file")
+  public ResponseEntity<StreamingResponseBody> downloadExportFile(
+      @PathVariable("jobId") String jobId, HttpServletRequest request) throws IOException {
+    if (exportJobService.status(jobId) == null) {
+      return ResponseEntity.notFound().build();
+    }
+    Path file = exportJobService.exportFile(jobId);
+    if (file == null) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+    } catch (NoSuchFileException ex) {
+      // 完了の確認後に取り消しや保持期間の経過でファイルが削除された場合
+      return ResponseEntity.notFound().build();
+    }
+    long size;
+    try {
+      size = channel.size();
+    } catch (IOException ex) {
+      channel.close();
+      throw ex;
+    }
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType("application/gzip"))
+        .contentLength(size)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString());
+    if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+      channel.close();
+      request.setAttribute("org.apache.tomcat.sendfile.filename", file.toAbsolutePath().toString());
+      request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+      request.setAttribute("org.apache.tomcat.sendfile.end", size);
+      return builder.build();
+    }
+    StreamingResponseBody body = outputStream -> {
+      try (channel) {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        long position = 0;
+        while (position < size) {
+          position += channel.transferTo(position, size - position, target);
+        }
+      }
+    };
+    return builder.body(body);
+  }
+
+  /**
+   * 受講生詳細のエクスポートジョブを取り消します。実行中のジョブは中断し、完了したジョブはファイルを削除します。
+   *
+   * @param jobId　ジョブID
+   * @return　実行結果
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "取り消し成功"),
+      @ApiResponse(responseCode = "404", description = "ジョブが見つかりませんでした。")
+  })
+  @Operation(summary = "受講生詳細エクスポートジョブ取り消し", description = "エクスポートジョブを取り消し、ファイルを削除します。")
+  @DeleteMapping("/students/exports/{jobId}")
+  public ResponseEntity<Void> cancelExportJob(@PathVariable("jobId") String jobId) {
+    if (!exportJobService.cancel(jobId)) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.noContent().build();
   }
 
   /**
    *　受講生詳細検索です。
-   *　IDに紐づく任意の受講生の情報を取得します。
+   *　IDに紐づく任意の受講生の情報を取得します。fieldsを指定した場合は、指定した項目のみを返します。
+   *　受講生詳細と一緒に読み込んだバージョンをETagとして返し、If-None-Matchが一致する場合は304を返します。
    *
    * @param idString　受講生ID
    * @return　受講生詳細
@@ -88,6 +332,8 @@ public class MainController {
       // 200 OK Response (Found)
       @ApiResponse(responseCode = "200", description = "検索成功",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentDetail.class))),
+      // 304 Not Modified
+      @ApiResponse(responseCode = "304", description = "受講生詳細が更新されていません（If-None-MatchがETagと一致）"),
       // 400 Bad Request
       @ApiResponse(responseCode = "400", description = "IDの形式が不正です",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ValidationErrorResponse.class))),
@@ -100,19 +346,81 @@ public class MainController {
   })
   @Operation(summary = "受講生ID検索", description = "IDに紐づく受講生詳細を検索します。")
   @GetMapping("/students/{id}")
-  public ResponseEntity<StudentDetail> getStudent(
+  public ResponseEntity<MappingJacksonValue> getStudent(
       @PathVariable("id")
       @Pattern(regexp = "^\\d+$", message = "IDは数字のみで構成されている必要があります。")
       @Parameter(name = "id", in = ParameterIn.PATH, description = "取得する受講生のID", example = "101")
-      String idString) {
+      String idString,
+
+      @Parameter(description = "レスポンスに含める項目のカンマ区切り", example = "id,name,emailAddress")
+      @RequestParam(required = false)
+      @Pattern(regexp = StudentFields.PATTERN, message = "取得する項目の指定が不正です。")
+      String fields,
+
+      WebRequest webRequest) {
     Integer id = Integer.parseInt(idString);
+    StudentFields studentFields = StudentFields.parse(fields);
     StudentDetail studentDetail = service.searchStudentId(id);
     if (studentDetail == null) {
       return ResponseEntity.notFound().build();
     }
-    return ResponseEntity.ok(studentDetail);
+    // キャッシュされた受講生詳細と一緒に読み込んだバージョンを使うので、ETagと返却内容は常に同じ時点のものになる
+    Integer version = studentDetail.getStudent().getVersion();
+    String eTag = (version == null) ? null : eTag(id, version, fields);
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+    MappingJacksonValue response = new MappingJacksonValue(studentDetail);
+    if (studentFields != null) {
+      response.setFilters(studentFields.filterProvider());
+    }
+    if (eTag == null) {
+      return ResponseEntity.ok(response);
+    }
+    return ResponseEntity.ok().eTag(eTag).body(response);
   }
 
+  /**
+   * 受講生詳細のETagを生成します。項目の指定ごとにレスポンスが異なるので、指定した項目もETagに含めます。
+   *
+   * @param id　受講生ID
+   * @param version　受講生詳細のバージョン
+   * @param fields　レスポンスに含める項目
+   * @return　ETag
+   */
+  private static String eTag(Integer id, Integer version, String fields) {
+    if (fields == null || fields.isBlank()) {
+      return "\"" + id + "-" + version + "\"";
+    }
+    return "\"" + id + "-" + version + "-" + Integer.toHexString(fields.hashCode()) + "\"";
+  }
+
+  /**
+   * 受講生詳細の複数ID検索です。
+   * 指定したIDの受講生詳細を1回のリクエストでまとめて取得します。見つからなかったIDは結果のmissingIdListに含めます。
+   *
+   * @param idList　受講生ID一覧
+   * @return　受講生詳細の複数ID検索結果
+   */
+  @ApiResponses(value = {
+      // 200 OK Response
+      @ApiResponse(responseCode = "200", description = "検索成功（見つからなかったIDはmissingIdListに含まれます）",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentBatchGetResult.class))),
+      // 400 Bad Request
+      @ApiResponse(responseCode = "400", description = "ID一覧の指定が不正です",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ValidationErrorResponse.class))),
+      // 500 Interval Server Error
+      @ApiResponse(responseCode = "500", description = "サーバーエラー (Internal Server Error)",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+  })
+  @Operation(summary = "受講生複数ID検索", description = "IDの配列に紐づく受講生詳細をリクエストした順に検索します。")
+  @PostMapping("/students/batch-get")
+  public StudentBatchGetResult getStudents(
+      @RequestBody
+      @Size(min = 1, max = 1000, message = "IDは1件以上1000件以下で指定する必要があります。")
+      List<@NotNull(message = "IDにnullは指定できません。") Integer> idList) {
+    return service.searchStudentsByIds(idList);
+  }
 
   /**
    * 受講生の登録を行います。
@@ -142,17 +450,65 @@ public class MainController {
     return ResponseEntity.ok(responseDetail);
   }
 
+  /**
+   * 受講生詳細の一括登録を行います。
+   * 入力チェックや登録に失敗した受講生詳細は、リクエスト配列内の位置とともに結果として返します。
+   *
+   * @param studentDetailList　受講生詳細一覧
+   * @return　一括登録結果
+   */
+  @ApiResponses(value = {
+      // 200 OK Response (Success)
+      @ApiResponse(responseCode = "200", description = "一括登録完了（失敗した受講生詳細はerrorListに含まれます）",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkRegisterResult.class))),
+      // 500 Interval Server Error
+      @ApiResponse(responseCode = "500", description = "サーバーエラー (Internal Server Error)",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+  })
+  @Operation(summary = "受講生一括登録", description = "受講生詳細の配列を一括で登録します。")
+  @PostMapping("/students/bulk")
+  public ResponseEntity<BulkRegisterResult> registerStudents(
+      @RequestBody List<StudentDetail> studentDetailList) {
+    BulkRegisterResult result = bulkService.registerStudents(studentDetailList);
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * CSVファイルから受講生詳細を取り込みます。
+   * リクエストボディは読み込みながら処理し、入力チェックや登録に失敗した行は行番号とともに結果として返します。
+   *
+   * @param inputStream　CSVファイル（UTF-8、1行目はヘッダー）
+   * @return　取り込み結果
+   */
+  @ApiResponses(value = {
+      // 200 OK Response (Success)
+      @ApiResponse(responseCode = "200", description = "取り込み完了（失敗した行はerrorListに含まれます）",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentImportResult.class))),
+      // 400 Bad Request
+      @ApiResponse(responseCode = "400", description = "CSVファイルのヘッダーが不正です",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+      // 500 Interval Server Error
+      @ApiResponse(responseCode = "500", description = "サーバーエラー (Internal Server Error)",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+  })
+  @Operation(summary = "受講生CSV取り込み", description = "CSVファイルの受講生詳細を一括で登録します。列はエクスポートしたCSVと同じ名前のヘッダーで指定します。")
+  @PostMapping(value = "/students/import", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  public ResponseEntity<StudentImportResult> importStudents(InputStream inputStream) throws IOException {
+    StudentImportResult result = importService.importStudents(inputStream);
+    return ResponseEntity.ok(result);
+  }
+
   /**
    * 受講生詳細の更新を行います。
    * キャンセルフラッグの更新もここで行います。（論理削除）
    *
    * @param studentDetail　受講生詳細
-   * @return　実行結果
+   * @return　実行結果（変更された項目）
    */
   @ApiResponses(value = {
       // 200 Response OK
       @ApiResponse(responseCode = "200", description = "更新成功",
-          content = @Content(mediaType = "application/json", schema = @Schema(type = "string", example = "更新処理が成功しました。"))),
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentUpdateResult.class))),
       // 400 Bad Request Response (Client Error)
       @ApiResponse(responseCode = "400", description = "リクエスト検証エラー (Bad Request)",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ValidationErrorResponse.class))),
@@ -163,7 +519,7 @@ public class MainController {
   @Operation(summary = "受講生詳細情報更新", description = "受講生詳細情報を更新します。")
   @io.swagger.v3.oas.annotations.parameters.RequestBody //
   @PutMapping("/students/{id}")
-  public ResponseEntity<String> updateStudent(
+  public ResponseEntity<StudentUpdateResult> updateStudent(
       @PathVariable("id")
       @Pattern(regexp = "^\\d+$", message = "IDは数字のみで構成されている必要があります。")
       String idString,
@@ -173,8 +529,51 @@ public class MainController {
     Integer pathId = Integer.parseInt(idString);
     studentDetail.getStudent().setId(pathId);
 
-    service.updateStudent(studentDetail);
-    return ResponseEntity.ok("更新処理が成功しました。");
+    StudentUpdateResult result = service.updateStudent(studentDetail);
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * 受講生の部分更新を行います（JSON Merge Patch）。
+   * リクエストに含まれる項目のみを更新し、値がnullの項目はnullで更新します。含まれていない項目は更新しません。
+   *
+   * @param patch　更新する項目と値
+   * @return　実行結果（更新した項目）
+   */
+  @ApiResponses(value = {
+      // 200 Response OK
+      @ApiResponse(responseCode = "200", description = "更新成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = StudentUpdateResult.class))),
+      // 400 Bad Request Response (Client Error)
+      @ApiResponse(responseCode = "400", description = "リクエスト検証エラー (Bad Request)",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ValidationErrorResponse.class))),
+      // 404 Not Found
+      @ApiResponse(responseCode = "404", description = "受講生が見つかりませんでした。"),
+      // 500 Interval Server Error
+      @ApiResponse(responseCode = "500", description = "サーバーエラー (Internal Server Error)",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+  })
+  @Operation(summary = "受講生部分更新", description = "リクエストに含まれる受講生の項目のみを更新します。")
+  @PatchMapping(value = "/students/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<StudentUpdateResult> patchStudent(
+      @PathVariable("id")
+      @Pattern(regexp = "^\\d+$", message = "IDは数字のみで構成されている必要があります。")
+      String idString,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          content = @Content(mediaType = "application/merge-patch+json",
+              examples = @ExampleObject(value = "{\"residence\": \"大阪\", \"remark\": null}")))
+      @RequestBody Map<String, Object> patch) {
+    StudentPatch studentPatch = StudentPatch.parse(patch);
+    Map<String, String> errors = studentPatch.validate(validator);
+    if (!errors.isEmpty()) {
+      throw new InvalidStudentPatchEx(errors);
+    }
+
+    StudentUpdateResult result = service.patchStudent(Integer.parseInt(idString), studentPatch);
+    if (result == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(result);
   }
 
 }
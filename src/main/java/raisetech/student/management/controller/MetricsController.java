@@ -0,0 +1,195 @@
+package raisetech.student.management.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import raisetech.student.management.config.VirtualThreadPinningMonitor;
+import raisetech.student.management.controller.filter.VirtualThreadRequestLimiter;
+import raisetech.student.management.controller.limiter.EndpointBulkheadInterceptor;
+import raisetech.student.management.domain.CacheStatistics;
+import raisetech.student.management.domain.CoalescingStatistics;
+import raisetech.student.management.domain.ConcurrencyLimitStatistics;
+import raisetech.student.management.domain.SlowQuery;
+import raisetech.student.management.domain.StatementStatistics;
+import raisetech.student.management.domain.VirtualThreadStatistics;
+import raisetech.student.management.repository.interceptor.SlowQueryLogInterceptor;
+import raisetech.student.management.repository.interceptor.StatementMetricsInterceptor;
+import raisetech.student.management.service.RequestCoalescer;
+import raisetech.student.management.service.StudentDetailCache;
+import raisetech.student.management.service.StudentSearchCache;
+
+/**
+ *  アプリケーション内部の統計情報を参照するREST APIとして受け付けるControllerです。
+ */
+@Tag(name = "統計情報 (Metrics)", description = "キャッシュなどの内部統計情報を参照するREST APIです。")
+@RestController
+public class MetricsController {
+
+  private StudentDetailCache detailCache;
+
+  private StudentSearchCache searchCache;
+
+  private StatementMetricsInterceptor statementMetrics;
+
+  private SlowQueryLogInterceptor slowQueryLog;
+
+  private RequestCoalescer coalescer;
+
+  private EndpointBulkheadInterceptor bulkheadInterceptor;
+
+  private ObjectProvider<VirtualThreadRequestLimiter> requestLimiter;
+
+  private ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+  @Autowired
+  public MetricsController(
+      StudentDetailCache detailCache,
+      StudentSearchCache searchCache,
+      StatementMetricsInterceptor statementMetrics,
+      SlowQueryLogInterceptor slowQueryLog,
+      RequestCoalescer coalescer,
+      EndpointBulkheadInterceptor bulkheadInterceptor,
+      ObjectProvider<VirtualThreadRequestLimiter> requestLimiter,
+      ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+    this.detailCache = detailCache;
+    this.searchCache = searchCache;
+    this.statementMetrics = statementMetrics;
+    this.slowQueryLog = slowQueryLog;
+    this.coalescer = coalescer;
+    this.bulkheadInterceptor = bulkheadInterceptor;
+    this.requestLimiter = requestLimiter;
+    this.pinningMonitor = pinningMonitor;
+  }
+
+  /**
+   * 受講生詳細キャッシュの統計情報を取得します。
+   *
+   * @return　キャッシュの統計情報
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatistics.class)))
+  })
+  @Operation(summary = "受講生詳細キャッシュ統計", description = "受講生詳細キャッシュのヒット・ミス・追い出し件数を取得します。")
+  @GetMapping("/metrics/student-detail-cache")
+  public CacheStatistics getStudentDetailCacheStatistics() {
+    return detailCache.statistics();
+  }
+
+  /**
+   * 検索結果キャッシュの統計情報を取得します。
+   *
+   * @return　キャッシュの統計情報
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatistics.class)))
+  })
+  @Operation(summary = "検索結果キャッシュ統計", description = "検索条件ごとの受講生ID一覧キャッシュのヒット・ミス・追い出し・無効化件数を取得します。")
+  @GetMapping("/metrics/student-search-cache")
+  public CacheStatistics getStudentSearchCacheStatistics() {
+    return searchCache.statistics();
+  }
+
+  /**
+   * SQLステートメントごとの実行統計を、実行時間の合計が大きい順に取得します。
+   *
+   * @return　ステートメントごとの実行統計
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = StatementStatistics.class))))
+  })
+  @Operation(summary = "SQLステートメント統計", description = "マップドステートメントごとの実行回数・取得件数・実行時間のパーセンタイルを取得します。")
+  @GetMapping("/metrics/statements")
+  public List<StatementStatistics> getStatementStatistics() {
+    return statementMetrics.statistics();
+  }
+
+  /**
+   * 実行時間がしきい値を超えたSQLの記録を、新しい順に取得します。
+   *
+   * @return　遅いSQLの実行記録
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = SlowQuery.class))))
+  })
+  @Operation(summary = "遅いSQLの記録", description = "しきい値を超えたSQLのバインド済みSQL・マスク済みパラメータ・実行時間・実行計画を取得します。")
+  @GetMapping("/metrics/slow-queries")
+  public List<SlowQuery> getSlowQueries() {
+    return slowQueryLog.slowQueries();
+  }
+
+  /**
+   * 同一検索のまとめ実行の統計情報を取得します。
+   *
+   * @return　まとめ実行の統計情報
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = CoalescingStatistics.class)))
+  })
+  @Operation(summary = "同一検索のまとめ実行統計", description = "同時に実行された同一検索の結果を共有した回数などを取得します。")
+  @GetMapping("/metrics/request-coalescing")
+  public CoalescingStatistics getCoalescingStatistics() {
+    return coalescer.statistics();
+  }
+
+  /**
+   * エンドポイントごとの同時実行数制限の統計情報を取得します。
+   *
+   * @return　エンドポイントごとの同時実行数制限の統計情報
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = ConcurrencyLimitStatistics.class))))
+  })
+  @Operation(summary = "同時実行数制限統計", description = "受講生APIのエンドポイントごとの同時実行数の上限・実行中の件数・拒否した件数を取得します。")
+  @GetMapping("/metrics/concurrency-limits")
+  public List<ConcurrencyLimitStatistics> getConcurrencyLimitStatistics() {
+    return bulkheadInterceptor.statistics();
+  }
+
+  /**
+   * 仮想スレッドでのリクエスト処理の統計情報を取得します。
+   * 仮想スレッドを使用していない場合は、enabledがfalseで各件数が0の統計情報を返します。
+   *
+   * @return　仮想スレッドでのリクエスト処理の統計情報
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = VirtualThreadStatistics.class)))
+  })
+  @Operation(summary = "仮想スレッド統計", description = "受講生APIの実行中・待機中のリクエスト数と、キャリアスレッドへの固定の検出件数を取得します。")
+  @GetMapping("/metrics/virtual-threads")
+  public VirtualThreadStatistics getVirtualThreadStatistics() {
+    VirtualThreadStatistics statistics = new VirtualThreadStatistics();
+    VirtualThreadRequestLimiter limiter = requestLimiter.getIfAvailable();
+    if (limiter != null) {
+      statistics.setEnabled(true);
+      statistics.setMaxConcurrentRequests(limiter.maxConcurrentRequests());
+      statistics.setActiveRequests(limiter.activeRequests());
+      statistics.setWaitingRequests(limiter.waitingRequests());
+      statistics.setRejectedCount(limiter.rejectedCount());
+    }
+    VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+    if (monitor != null) {
+      statistics.setPinnedCount(monitor.pinnedCount());
+      statistics.setRecentPinnedStackTraces(monitor.recentStackTraces());
+    }
+    return statistics;
+  }
+}
@@ -0,0 +1,44 @@
+package raisetech.student.management.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import raisetech.student.management.domain.EnrollmentStatistics;
+import raisetech.student.management.service.EnrollmentCounter;
+
+/**
+ *  受講生の集計情報を参照するREST APIとして受け付けるControllerです。
+ */
+@Tag(name = "集計 (Stats)", description = "受講生の集計情報を参照するREST APIです。")
+@RestController
+public class StatsController {
+
+  private EnrollmentCounter enrollmentCounter;
+
+  @Autowired
+  public StatsController(EnrollmentCounter enrollmentCounter) {
+    this.enrollmentCounter = enrollmentCounter;
+  }
+
+  /**
+   * コース名・申込状況ごとの受講生数を取得します。
+   * 受講生数はメモリ上の集計から返すので、受講生の件数によらず一定の時間で応答します。
+   *
+   * @return　受講生数の集計
+   */
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取得成功",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = EnrollmentStatistics.class)))
+  })
+  @Operation(summary = "受講状況の集計", description = "コース名・申込状況（仮申込/本申込/受講中/受講終了）ごとの受講生数を取得します。")
+  @GetMapping("/stats/enrollments")
+  public EnrollmentStatistics getEnrollmentStatistics() {
+    return enrollmentCounter.statistics();
+  }
+}
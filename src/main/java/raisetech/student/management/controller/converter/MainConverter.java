@@ -2,9 +2,9 @@ package raisetech.student.management.controller.converter;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import raisetech.student.management.data.ApplicationStatus;
 import raisetech.student.management.data.Student;
@@ -20,7 +20,8 @@ public class MainConverter {
 
   /**
    * 受講生に紐づく受講生コース情報をマッピングする。
-   * 受講生コース情報は受講生に対して複数存在するのでループを回して受講生詳細情報を組み立てる。
+   * 申込状況はコースIDごと、受講生コース情報は受講生IDごとに一度だけ振り分けてから受講生詳細情報を組み立てる。
+   * 同じコースIDの申込状況が複数ある場合は、リストで先に現れたものを使用する。
    *
    * @param studentList 受講生リスト
    * @param courseList　コースリスト
@@ -38,31 +39,27 @@ public class MainConverter {
         courseList == null || courseList.isEmpty()) ? Collections.emptyList() : courseList;
     List<ApplicationStatus> safeStatusList = (
         statusList == null || statusList.isEmpty()) ? Collections.emptyList() : statusList;
-    List<CourseDetail> courseDetailList = new ArrayList<>();
 
-    safeCourseList.forEach(course -> {
-      CourseDetail courseDetail = new CourseDetail();
-      courseDetail.setCourse(course);
-      ApplicationStatus optionalStatus = safeStatusList.stream()
-          .filter(status -> Objects.equals(course.getId(), status.getCourseId()))
-          .findFirst()
-          .orElse(null);
+    Map<Integer, ApplicationStatus> statusMap = HashMap.newHashMap(safeStatusList.size());
+    safeStatusList.forEach(status -> statusMap.putIfAbsent(status.getCourseId(), status));
 
-      courseDetail.setApplicationStatus(optionalStatus);
-      courseDetailList.add(courseDetail);
+    Map<Integer, List<CourseDetail>> courseDetailMap = HashMap.newHashMap(studentList.size());
+    safeCourseList.forEach(course -> {
+      if (course == null) {
+        return;
+      }
+      CourseDetail courseDetail = new CourseDetail(course, statusMap.get(course.getId()));
+      courseDetailMap.computeIfAbsent(course.getStudentId(), studentId -> new ArrayList<>())
+          .add(courseDetail);
     });
 
-    List<StudentDetail> details = new ArrayList<>();
+    List<StudentDetail> details = new ArrayList<>(studentList.size());
     studentList.forEach(student -> {
+      List<CourseDetail> matchCourseList = courseDetailMap.get(student.getId());
       StudentDetail studentDetail = new StudentDetail();
       studentDetail.setStudent(student);
-
-      List<CourseDetail> matchCourseList = courseDetailList.stream()
-          .filter (courseDetail -> courseDetail.getCourse() != null &&
-              Objects.equals(student.getId(), courseDetail.getCourse().getStudentId()))
-          .collect(Collectors.toList());
-
-      studentDetail.setCourseDetailList(matchCourseList);
+      studentDetail.setCourseDetailList(
+          matchCourseList == null ? new ArrayList<>() : new ArrayList<>(matchCourseList));
       details.add(studentDetail);
     });
     return details;
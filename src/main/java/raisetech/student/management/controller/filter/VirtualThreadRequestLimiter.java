@@ -0,0 +1,156 @@
+package raisetech.student.management.controller.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import raisetech.student.management.controller.handler.response.ApiErrorResponse;
+
+/**
+ * 仮想スレッドでリクエストを処理する場合に、受講生APIの同時実行数をコネクションプールの大きさに制限するFilterです。
+ * 仮想スレッドではTomcatのスレッド数による制限がなくなるため、制限しないとコネクション待ちのリクエストが際限なく増えます。
+ * 上限に達している場合は公平（FIFO）に待機し、待機時間を超えた場合は503を返します。
+ * 非同期処理（ストリーミング）のリクエストは、非同期処理の完了まで枠を保持します。
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadRequestLimiter extends OncePerRequestFilter {
+
+  private static final String PATH_PREFIX = "/students";
+
+  private Semaphore permits;
+
+  private int maxConcurrentRequests;
+
+  private long acquireTimeoutMillis;
+
+  private ObjectMapper objectMapper;
+
+  private LongAdder rejectedCount = new LongAdder();
+
+  @Autowired
+  public VirtualThreadRequestLimiter(
+      @Value("${student.virtual-threads.max-concurrent-requests:${spring.datasource.hikari.maximum-pool-size:10}}")
+      int maxConcurrentRequests,
+      @Value("${student.virtual-threads.acquire-timeout-millis:${spring.datasource.hikari.connection-timeout:30000}}")
+      long acquireTimeoutMillis,
+      ObjectMapper objectMapper) {
+    this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 1);
+    this.permits = new Semaphore(this.maxConcurrentRequests, true);
+    this.acquireTimeoutMillis = acquireTimeoutMillis;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(request.getContextPath() + PATH_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!acquire()) {
+      rejectedCount.increment();
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setCharacterEncoding("UTF-8");
+      objectMapper.writeValue(response.getOutputStream(),
+          new ApiErrorResponse("混み合っているため処理できませんでした。時間をおいて再度お試しください。"));
+      return;
+    }
+    boolean releaseOnAsyncComplete = false;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleaseListener());
+        releaseOnAsyncComplete = true;
+      }
+    } finally {
+      if (!releaseOnAsyncComplete) {
+        permits.release();
+      }
+    }
+  }
+
+  /**
+   * 上限の同時実行数を取得します。
+   *
+   * @return　上限の同時実行数
+   */
+  public int maxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  /**
+   * 実行中のリクエスト数を取得します。
+   *
+   * @return　実行中のリクエスト数
+   */
+  public int activeRequests() {
+    return maxConcurrentRequests - permits.availablePermits();
+  }
+
+  /**
+   * 待機中のリクエスト数（概算）を取得します。
+   *
+   * @return　待機中のリクエスト数
+   */
+  public int waitingRequests() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * 待機時間を超えて503を返したリクエスト数を取得します。
+   *
+   * @return　503を返したリクエスト数
+   */
+  public long rejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  private boolean acquire() {
+    try {
+      return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** 非同期処理が完了した時に枠を返却します（エラー・タイムアウトの場合も最後に完了が通知されます）。 */
+  private class ReleaseListener implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      permits.release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
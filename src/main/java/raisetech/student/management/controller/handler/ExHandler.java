@@ -7,12 +7,17 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import raisetech.student.management.controller.handler.exception.ConcurrencyLimitEx;
+import raisetech.student.management.controller.handler.exception.ExportJobLimitEx;
+import raisetech.student.management.controller.handler.exception.InvalidImportFileEx;
+import raisetech.student.management.controller.handler.exception.InvalidStudentPatchEx;
 import raisetech.student.management.controller.handler.exception.StudentNotFoundEx;
 import raisetech.student.management.controller.handler.response.ApiErrorResponse;
 import raisetech.student.management.controller.handler.response.ValidationErrorResponse;
@@ -43,6 +48,32 @@ public class ExHandler {
     return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
   }
 
+  @ExceptionHandler(ExportJobLimitEx.class)
+  public ResponseEntity<ApiErrorResponse> handleExportJobLimitEx(ExportJobLimitEx ex) {
+    ApiErrorResponse response = new ApiErrorResponse(ex.getMessage());
+    return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @ExceptionHandler(ConcurrencyLimitEx.class)
+  public ResponseEntity<ApiErrorResponse> handleConcurrencyLimitEx(ConcurrencyLimitEx ex) {
+    ApiErrorResponse response = new ApiErrorResponse(ex.getMessage());
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+    return new ResponseEntity<>(response, headers, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @ExceptionHandler(InvalidImportFileEx.class)
+  public ResponseEntity<ApiErrorResponse> handleInvalidImportFileEx(InvalidImportFileEx ex) {
+    ApiErrorResponse response = new ApiErrorResponse(ex.getMessage());
+    return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(InvalidStudentPatchEx.class)
+  public ResponseEntity<ValidationErrorResponse> handleInvalidPatchEx(InvalidStudentPatchEx ex) {
+    ValidationErrorResponse response = new ValidationErrorResponse(ex.getErrors());
+    return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+  }
+
   @ExceptionHandler(ConstraintViolationException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
   public Map<String, Object> handleConstraintViolationEx(ConstraintViolationException ex){
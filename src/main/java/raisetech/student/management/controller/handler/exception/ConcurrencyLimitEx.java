@@ -0,0 +1,15 @@
+package raisetech.student.management.controller.handler.exception;
+
+public class ConcurrencyLimitEx extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public ConcurrencyLimitEx(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
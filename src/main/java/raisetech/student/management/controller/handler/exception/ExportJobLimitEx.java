@@ -0,0 +1,8 @@
+package raisetech.student.management.controller.handler.exception;
+
+public class ExportJobLimitEx extends RuntimeException {
+
+  public ExportJobLimitEx(String message) {
+    super(message);
+  }
+}
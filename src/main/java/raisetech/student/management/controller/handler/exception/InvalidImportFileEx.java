@@ -0,0 +1,8 @@
+package raisetech.student.management.controller.handler.exception;
+
+public class InvalidImportFileEx extends RuntimeException {
+
+  public InvalidImportFileEx(String message) {
+    super(message);
+  }
+}
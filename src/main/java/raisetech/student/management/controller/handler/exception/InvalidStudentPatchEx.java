@@ -0,0 +1,17 @@
+package raisetech.student.management.controller.handler.exception;
+
+import java.util.Map;
+
+public class InvalidStudentPatchEx extends RuntimeException {
+
+  private final Map<String, String> errors;
+
+  public InvalidStudentPatchEx(Map<String, String> errors) {
+    super("部分更新の内容が不正です。");
+    this.errors = errors;
+  }
+
+  public Map<String, String> getErrors() {
+    return errors;
+  }
+}
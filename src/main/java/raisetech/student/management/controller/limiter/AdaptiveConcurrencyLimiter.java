@@ -0,0 +1,134 @@
+package raisetech.student.management.controller.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import raisetech.student.management.domain.ConcurrencyLimitStatistics;
+
+/**
+ * 応答時間に応じて同時実行数の上限を調整するリミッターです（AIMD）。
+ * 直近の応答時間（短期の指数移動平均）と基準の応答時間（長期の指数移動平均）を比べ、
+ * 上限近くまで使われている状態で直近の応答時間が基準のtolerance倍を超えた場合に限り、混雑とみなして上限をbackoffRatio倍に下げます。
+ * 直近の応答時間が基準内の場合は、上限の半分以上を使っている時に限り上限を1増やします。
+ * 上限まで使われていない時の応答時間のばらつき（キャッシュのヒット・ミスなど）では上限を下げません。
+ * 上限に達している場合は待たずに拒否します。
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  /** 直近の応答時間の更新の重みです。 */
+  private static final double SHORT_SMOOTHING = 0.2;
+
+  /** 基準の応答時間の更新の重みです。 */
+  private static final double BASELINE_SMOOTHING = 0.01;
+
+  /** 上限近くまで使われているとみなす、実行中のリクエスト数の上限に対する割合です。 */
+  private static final double SATURATION_RATIO = 0.8;
+
+  private final String name;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double tolerance;
+
+  private final double backoffRatio;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private volatile double limit;
+
+  private double shortNanos;
+
+  private double baselineNanos;
+
+  private final LongAdder acceptedCount = new LongAdder();
+
+  private final LongAdder rejectedCount = new LongAdder();
+
+  public AdaptiveConcurrencyLimiter(
+      String name, int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio) {
+    this.name = name;
+    this.minLimit = Math.max(minLimit, 1);
+    this.maxLimit = Math.max(maxLimit, this.minLimit);
+    this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+    this.tolerance = tolerance;
+    this.backoffRatio = backoffRatio;
+  }
+
+  /**
+   * 実行枠を取得します。上限に達している場合は待たずにfalseを返します。
+   *
+   * @return　取得できた場合はtrue
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= (int) limit) {
+        rejectedCount.increment();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        acceptedCount.increment();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 実行枠を返却し、応答時間から上限を調整します。
+   *
+   * @param elapsedNanos　応答時間（ナノ秒）
+   */
+  public void release(long elapsedNanos) {
+    int current = inFlight.getAndDecrement();
+    lock.lock();
+    try {
+      if (baselineNanos == 0) {
+        shortNanos = elapsedNanos;
+        baselineNanos = elapsedNanos;
+      } else {
+        shortNanos += (elapsedNanos - shortNanos) * SHORT_SMOOTHING;
+        baselineNanos += (elapsedNanos - baselineNanos) * BASELINE_SMOOTHING;
+      }
+      if (shortNanos > baselineNanos * tolerance) {
+        if (current >= limit * SATURATION_RATIO) {
+          limit = Math.max(minLimit, limit * backoffRatio);
+        }
+      } else if (current * 2 >= limit) {
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 現在の上限を取得します。
+   *
+   * @return　同時実行数の上限
+   */
+  public int limit() {
+    return (int) limit;
+  }
+
+  /**
+   * 統計情報を取得します。
+   *
+   * @return　統計情報
+   */
+  public ConcurrencyLimitStatistics statistics() {
+    double baselineMillis;
+    lock.lock();
+    try {
+      baselineMillis = baselineNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    } finally {
+      lock.unlock();
+    }
+    return new ConcurrencyLimitStatistics(
+        name, (int) limit, inFlight.get(), acceptedCount.sum(), rejectedCount.sum(), baselineMillis);
+  }
+}
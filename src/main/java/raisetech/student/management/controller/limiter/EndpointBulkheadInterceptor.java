@@ -0,0 +1,127 @@
+package raisetech.student.management.controller.limiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import raisetech.student.management.controller.handler.exception.ConcurrencyLimitEx;
+import raisetech.student.management.domain.ConcurrencyLimitStatistics;
+
+/**
+ * 受講生APIのハンドラーメソッドごとに同時実行数を制限するInterceptorです（バルクヘッド）。
+ * エンドポイントごとに独立したAdaptiveConcurrencyLimiterを持つため、一覧検索が急増しても
+ * ID検索や登録・更新の実行枠は一覧検索に使われません。上限を超えたリクエストは待たずにConcurrencyLimitExで拒否します。
+ * 非同期処理（ストリーミング）のリクエストは、非同期処理の完了まで実行枠を保持します。
+ * 上限の初期値と最大値は、指定がない場合はコネクションプールの大きさから決めます。最大値はプールの大きさより
+ * RESERVED_CONNECTIONSだけ小さくし、1つのエンドポイントへの集中でコネクションを使い切らないようにします。
+ * エンドポイントごとの上限はstudent.limiter.endpoints.{ハンドラーメソッド名}.*で個別に指定できます。
+ */
+@Component
+public class EndpointBulkheadInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String PERMIT_ATTRIBUTE = EndpointBulkheadInterceptor.class.getName() + ".permit";
+
+  /** 上限の最大値を決める際に、他のエンドポイントのために残すコネクション数です。 */
+  private static final int RESERVED_CONNECTIONS = 2;
+
+  /** 取得した実行枠と、取得した時刻（System.nanoTime）です。 */
+  private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+  }
+
+  private Map<String, AdaptiveConcurrencyLimiter> limiterMap = new ConcurrentHashMap<>();
+
+  private Environment environment;
+
+  private boolean enabled;
+
+  private int initialLimit;
+
+  private int minLimit;
+
+  private int maxLimit;
+
+  private double tolerance;
+
+  private double backoffRatio;
+
+  private long retryAfterSeconds;
+
+  @Autowired
+  public EndpointBulkheadInterceptor(
+      Environment environment,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+      @Value("${student.limiter.enabled:true}") boolean enabled,
+      @Value("${student.limiter.initial-limit:0}") int initialLimit,
+      @Value("${student.limiter.min-limit:2}") int minLimit,
+      @Value("${student.limiter.max-limit:0}") int maxLimit,
+      @Value("${student.limiter.tolerance:2.0}") double tolerance,
+      @Value("${student.limiter.backoff-ratio:0.9}") double backoffRatio,
+      @Value("${student.limiter.retry-after-seconds:1}") long retryAfterSeconds) {
+    this.environment = environment;
+    this.enabled = enabled;
+    this.initialLimit = (initialLimit > 0) ? initialLimit : Math.max(poolSize / 2, 1);
+    this.minLimit = minLimit;
+    this.maxLimit = (maxLimit > 0) ? maxLimit : Math.max(poolSize - RESERVED_CONNECTIONS, 1);
+    this.tolerance = tolerance;
+    this.backoffRatio = backoffRatio;
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!enabled || !(handler instanceof HandlerMethod handlerMethod)
+        || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+      return true;
+    }
+    AdaptiveConcurrencyLimiter limiter = limiterMap.computeIfAbsent(
+        handlerMethod.getMethod().getName(), this::createLimiter);
+    if (!limiter.tryAcquire()) {
+      throw new ConcurrencyLimitEx("混み合っているため処理できませんでした。時間をおいて再度お試しください。", retryAfterSeconds);
+    }
+    request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.isAsyncStarted()) {
+      return;
+    }
+    if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+      request.removeAttribute(PERMIT_ATTRIBUTE);
+      permit.limiter().release(System.nanoTime() - permit.startNanos());
+    }
+  }
+
+  /**
+   * エンドポイントごとの同時実行数制限の統計情報を、エンドポイント名の順に取得します。
+   *
+   * @return　統計情報
+   */
+  public List<ConcurrencyLimitStatistics> statistics() {
+    return limiterMap.values().stream()
+        .map(AdaptiveConcurrencyLimiter::statistics)
+        .sorted(Comparator.comparing(ConcurrencyLimitStatistics::getEndpoint))
+        .toList();
+  }
+
+  private AdaptiveConcurrencyLimiter createLimiter(String endpoint) {
+    String prefix = "student.limiter.endpoints." + endpoint + ".";
+    return new AdaptiveConcurrencyLimiter(
+        endpoint,
+        environment.getProperty(prefix + "initial-limit", Integer.class, initialLimit),
+        environment.getProperty(prefix + "min-limit", Integer.class, minLimit),
+        environment.getProperty(prefix + "max-limit", Integer.class, maxLimit),
+        tolerance,
+        backoffRatio);
+  }
+}
@@ -1,5 +1,7 @@
 package raisetech.student.management.data;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Max;
@@ -8,8 +10,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import raisetech.student.management.domain.StudentFields;
 
 @Schema(description = "受講生情報")
+@JsonFilter(StudentFields.FILTER_ID)
 @Getter
 @Setter
 
@@ -36,4 +40,9 @@ public class Student {
   private String gender;
   private String remark;
   private boolean wasDeleted;
+
+  /** 受講生詳細のバージョンです（ETagに使用し、レスポンスには含めません）。 */
+  @JsonIgnore
+  @Schema(hidden = true)
+  private Integer version;
   }
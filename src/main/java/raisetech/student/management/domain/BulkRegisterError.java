@@ -0,0 +1,23 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "一括登録で失敗した受講生詳細")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class BulkRegisterError {
+
+  @Schema(description = "リクエスト配列内の位置（0始まり）", example = "3")
+  private int index;
+
+  @Schema(description = "エラーメッセージ", example = "student.emailAddress: 有効なメールアドレスを入力してください。")
+  private String message;
+
+}
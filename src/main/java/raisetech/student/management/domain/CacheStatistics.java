@@ -0,0 +1,32 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "キャッシュの統計情報")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class CacheStatistics {
+
+  @Schema(description = "現在のエントリ数（概算）", example = "1200")
+  private long size;
+
+  @Schema(description = "ヒット数", example = "9800")
+  private long hitCount;
+
+  @Schema(description = "ミス数", example = "200")
+  private long missCount;
+
+  @Schema(description = "容量超過・有効期限切れによる追い出し数", example = "15")
+  private long evictionCount;
+
+  @Schema(description = "更新による無効化数", example = "42")
+  private long invalidationCount;
+
+}
@@ -0,0 +1,29 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "同一検索のまとめ実行の統計情報")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class CoalescingStatistics {
+
+  @Schema(description = "データベースから読み込んだ回数", example = "1200")
+  private long loadCount;
+
+  @Schema(description = "実行中の同一検索の結果を共有した（重複を排除した）回数", example = "8800")
+  private long coalescedCount;
+
+  @Schema(description = "待機時間を超えたため自身で読み込んだ回数", example = "3")
+  private long timeoutCount;
+
+  @Schema(description = "現在実行中の検索数", example = "4")
+  private int inFlightCount;
+
+}
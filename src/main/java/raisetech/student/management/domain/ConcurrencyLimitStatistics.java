@@ -0,0 +1,35 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "エンドポイントごとの同時実行数制限の統計情報")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class ConcurrencyLimitStatistics {
+
+  @Schema(description = "エンドポイント（ハンドラーメソッド名）", example = "getStudentList")
+  private String endpoint;
+
+  @Schema(description = "現在の同時実行数の上限", example = "12")
+  private int limit;
+
+  @Schema(description = "実行中のリクエスト数", example = "7")
+  private int inFlight;
+
+  @Schema(description = "受け付けたリクエスト数", example = "10500")
+  private long acceptedCount;
+
+  @Schema(description = "上限を超えたため503で拒否したリクエスト数", example = "42")
+  private long rejectedCount;
+
+  @Schema(description = "上限の調整の基準にしている応答時間（長期の指数移動平均、ミリ秒）", example = "8.5")
+  private double baselineLatencyMillis;
+
+}
@@ -0,0 +1,26 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "コース名・申込状況ごとの受講生数")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class EnrollmentCount {
+
+  @Schema(description = "コース名", example = "Javaコース")
+  private String courseName;
+
+  @Schema(description = "申込状況（仮申込/本申込/受講中/受講終了）", example = "受講中")
+  private String applicationStatus;
+
+  @Schema(description = "受講生数（受講生のコース情報の件数）", example = "120")
+  private long studentCount;
+
+}
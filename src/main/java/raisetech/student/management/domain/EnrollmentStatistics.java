@@ -0,0 +1,28 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "コース名・申込状況ごとの受講生数の集計")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class EnrollmentStatistics {
+
+  @Schema(description = "コース名・申込状況ごとの受講生数（コース名、申込状況の順）")
+  private List<EnrollmentCount> enrollmentCountList;
+
+  @Schema(description = "受講生数の合計", example = "850")
+  private long totalCount;
+
+  @Schema(description = "データベースの件数で最後に集計し直した日時", example = "2024-05-01T10:15:30")
+  private LocalDateTime reconciledAt;
+
+}
@@ -0,0 +1,39 @@
+package raisetech.student.management.domain;
+
+/**
+ * エクスポートファイルの形式です。ファイルはいずれもgzipで圧縮して出力します。
+ */
+public enum ExportFormat {
+
+  CSV("csv"),
+  NDJSON("ndjson");
+
+  /** パラメータで指定する形式名です。 */
+  public static final String PATTERN = "^(csv|ndjson)$";
+
+  private final String extension;
+
+  ExportFormat(String extension) {
+    this.extension = extension;
+  }
+
+  /**
+   * 圧縮後のファイル名を返します。
+   *
+   * @param baseName　拡張子を除いたファイル名
+   * @return　ファイル名
+   */
+  public String fileName(String baseName) {
+    return baseName + "." + extension + ".gz";
+  }
+
+  /**
+   * 形式名（csv/ndjson）から形式を取得します。
+   *
+   * @param name　形式名（形式はPATTERNで検証済みであること）
+   * @return　エクスポートファイルの形式
+   */
+  public static ExportFormat of(String name) {
+    return valueOf(name.toUpperCase());
+  }
+}
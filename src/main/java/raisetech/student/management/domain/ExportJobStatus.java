@@ -0,0 +1,42 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "エクスポートジョブの状態")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class ExportJobStatus {
+
+  @Schema(description = "ジョブID", example = "3f2b8c1e-5d7a-4e0b-9c61-2a4d8e9f1b07")
+  private String jobId;
+
+  @Schema(description = "ファイル形式", example = "CSV")
+  private ExportFormat format;
+
+  @Schema(description = "状態（QUEUED/RUNNING/COMPLETED/FAILED/CANCELLED）", example = "RUNNING")
+  private String state;
+
+  @Schema(description = "書き出し済みの受講生数", example = "12000")
+  private long exportedCount;
+
+  @Schema(description = "エクスポート対象の受講生数（実行開始前はnull）", example = "50000")
+  private Long totalCount;
+
+  @Schema(description = "受付日時", example = "2024-05-01T10:15:30")
+  private LocalDateTime createdAt;
+
+  @Schema(description = "完了日時（完了前はnull）", example = "2024-05-01T10:16:02")
+  private LocalDateTime finishedAt;
+
+  @Schema(description = "失敗した場合のエラーメッセージ", example = "エクスポート処理に失敗しました。")
+  private String errorMessage;
+
+}
@@ -0,0 +1,37 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "しきい値を超えたSQLの実行記録")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class SlowQuery {
+
+  @Schema(description = "ステートメントID", example = "searchStudentByCriteria")
+  private String statementId;
+
+  @Schema(description = "実行したSQL", example = "SELECT s.id, s.name FROM students s WHERE s.name LIKE CONCAT('%', ?, '%')")
+  private String sql;
+
+  @Schema(description = "バインドしたパラメータ（個人情報はマスク済み）", example = "[\"name=***\"]")
+  private List<String> parameterList;
+
+  @Schema(description = "実行時間（ミリ秒）", example = "1250.4")
+  private double elapsedMillis;
+
+  @Schema(description = "検出日時", example = "2024-05-01T10:15:30")
+  private LocalDateTime detectedAt;
+
+  @Schema(description = "EXPLAINによる実行計画（取得前・取得失敗時はnull）")
+  private List<String> plan;
+
+}
@@ -0,0 +1,47 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "マップドステートメントごとの実行統計")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class StatementStatistics {
+
+  @Schema(description = "ステートメントID", example = "searchStudentByCriteria")
+  private String statementId;
+
+  @Schema(description = "実行回数", example = "1520")
+  private long count;
+
+  @Schema(description = "例外が発生した回数", example = "0")
+  private long errorCount;
+
+  @Schema(description = "取得・更新件数の合計", example = "30400")
+  private long rowCount;
+
+  @Schema(description = "実行時間の合計（ミリ秒）", example = "4210.5")
+  private double totalMillis;
+
+  @Schema(description = "平均実行時間（ミリ秒）", example = "2.77")
+  private double averageMillis;
+
+  @Schema(description = "最大実行時間（ミリ秒）", example = "48.2")
+  private double maxMillis;
+
+  @Schema(description = "実行時間の50パーセンタイル（ミリ秒、ヒストグラムのバケット上限）", example = "2.048")
+  private double p50Millis;
+
+  @Schema(description = "実行時間の95パーセンタイル（ミリ秒、ヒストグラムのバケット上限）", example = "8.192")
+  private double p95Millis;
+
+  @Schema(description = "実行時間の99パーセンタイル（ミリ秒、ヒストグラムのバケット上限）", example = "16.384")
+  private double p99Millis;
+
+}
@@ -0,0 +1,25 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "受講生詳細の複数ID検索結果")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class StudentBatchGetResult {
+
+  @Schema(description = "受講生詳細一覧（リクエストしたIDの順）")
+  private List<StudentDetail> studentDetailList = new ArrayList<>();
+
+  @Schema(description = "受講生が見つからなかったID（リクエストしたIDの順）", example = "[4, 10]")
+  private List<Integer> missingIdList = new ArrayList<>();
+
+}
@@ -1,5 +1,6 @@
 package raisetech.student.management.domain;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import java.util.ArrayList;
@@ -11,6 +12,7 @@ import lombok.Setter;
 import raisetech.student.management.data.Student;
 
 @Schema(description = "受講生詳細")
+@JsonFilter(StudentFields.FILTER_ID)
 @Getter
 @Setter
 @NoArgsConstructor
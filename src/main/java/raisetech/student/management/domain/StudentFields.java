@@ -0,0 +1,118 @@
+package raisetech.student.management.domain;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 受講生詳細のうち、レスポンスに含める項目（fieldsパラメータ）です。
+ * 受講生情報の項目は検索するカラムに、courseDetailListはコース情報・申込状況を取得するかどうかに対応します。
+ * 受講生IDはページのカーソルやコース情報の紐づけに使用するため、常に含めます。
+ */
+@EqualsAndHashCode
+public class StudentFields {
+
+  /** 受講生詳細と受講生情報のシリアライズに適用するJacksonのフィルターIDです。 */
+  public static final String FILTER_ID = "studentFields";
+
+  public static final String COURSE_DETAIL_LIST = "courseDetailList";
+
+  private static final String NAMES = "id|name|kanaName|nickname|emailAddress|residence|age|gender|remark|wasDeleted|"
+      + COURSE_DETAIL_LIST;
+
+  /** fieldsパラメータの形式です（項目名のカンマ区切り）。 */
+  public static final String PATTERN = "^(" + NAMES + ")(,(" + NAMES + "))*$";
+
+  /** 受講生情報の項目名とカラム名の対応です。カラム名はこの対応からのみSQLに埋め込みます。 */
+  private static final Map<String, String> COLUMN_MAP = new LinkedHashMap<>();
+
+  static {
+    COLUMN_MAP.put("id", "id");
+    COLUMN_MAP.put("name", "name");
+    COLUMN_MAP.put("kanaName", "kana_name");
+    COLUMN_MAP.put("nickname", "nickname");
+    COLUMN_MAP.put("emailAddress", "email_address");
+    COLUMN_MAP.put("residence", "residence");
+    COLUMN_MAP.put("age", "age");
+    COLUMN_MAP.put("gender", "gender");
+    COLUMN_MAP.put("remark", "remark");
+    COLUMN_MAP.put("wasDeleted", "was_deleted");
+  }
+
+  private static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+      .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+  private final Set<String> fieldSet;
+
+  private StudentFields(Set<String> fieldSet) {
+    this.fieldSet = fieldSet;
+  }
+
+  /**
+   * fieldsパラメータを解析します。
+   *
+   * @param fields　項目名のカンマ区切り（形式はPATTERNで検証済みであること）
+   * @return　レスポンスに含める項目（指定がない場合はnull）
+   */
+  public static StudentFields parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return null;
+    }
+    Set<String> fieldSet = new HashSet<>(Arrays.asList(fields.split(",")));
+    fieldSet.add("id");
+    return new StudentFields(fieldSet);
+  }
+
+  /**
+   * 全項目をシリアライズするフィルター設定です。ObjectMapperの既定として設定します。
+   *
+   * @return　全項目を出力するフィルター設定
+   */
+  public static FilterProvider allFields() {
+    return ALL_FIELDS;
+  }
+
+  /**
+   * 検索する受講生テーブルのカラムを返します。
+   *
+   * @return　カラム名一覧
+   */
+  public List<String> columnList() {
+    List<String> columnList = new ArrayList<>();
+    COLUMN_MAP.forEach((field, column) -> {
+      if (fieldSet.contains(field)) {
+        columnList.add(column);
+      }
+    });
+    return columnList;
+  }
+
+  /**
+   * コース情報・申込状況を含めるかどうかを返します。
+   *
+   * @return　含める場合true
+   */
+  public boolean includesCourseDetails() {
+    return fieldSet.contains(COURSE_DETAIL_LIST);
+  }
+
+  /**
+   * 指定した項目のみをシリアライズするフィルター設定を返します。
+   *
+   * @return　フィルター設定
+   */
+  public FilterProvider filterProvider() {
+    Set<String> propertySet = new HashSet<>(fieldSet);
+    propertySet.add("student");
+    return new SimpleFilterProvider()
+        .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(propertySet));
+  }
+}
@@ -0,0 +1,23 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "CSV取り込みで失敗した行")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class StudentImportError {
+
+  @Schema(description = "CSVファイル内の行番号（1始まり、ヘッダーを含む）", example = "12")
+  private long lineNumber;
+
+  @Schema(description = "エラーメッセージ", example = "student.emailAddress: 有効なメールアドレスを入力してください。")
+  private String message;
+
+}
@@ -0,0 +1,25 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "受講生詳細のCSV取り込み結果")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class StudentImportResult {
+
+  @Schema(description = "登録に成功した件数", example = "4998")
+  private int registeredCount;
+
+  @Schema(type = "array", implementation = StudentImportError.class)
+  private List<StudentImportError> errorList = new ArrayList<>();
+
+}
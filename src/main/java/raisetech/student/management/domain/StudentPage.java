@@ -0,0 +1,25 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "受講生詳細の一覧（ページ単位）")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class StudentPage {
+
+  @Schema(type = "array", implementation = StudentDetail.class)
+  private List<StudentDetail> studentDetailList = new ArrayList<>();
+
+  @Schema(description = "次ページ取得用のカーソル（最終ページの場合はnull）", example = "120")
+  private Integer nextCursor;
+
+}
@@ -0,0 +1,104 @@
+package raisetech.student.management.domain;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import raisetech.student.management.data.Student;
+
+/**
+ * 受講生の部分更新（JSON Merge Patch）の内容です。
+ * リクエストに含まれていた項目の名前と、その値を設定した受講生を保持します。
+ * 値がnullの項目はnullで更新し、含まれていない項目は更新しません。
+ */
+public class StudentPatch {
+
+  /** 部分更新できる項目です。受講生IDはパスで指定するため含めません。 */
+  public static final Set<String> PROPERTIES = Set.of(
+      "name", "kanaName", "nickname", "emailAddress", "residence", "age", "gender", "remark", "wasDeleted");
+
+  /** nullで更新できない項目です（NOT NULLカラムとプリミティブ型の項目）。 */
+  private static final Set<String> NOT_NULL_PROPERTIES = Set.of(
+      "name", "kanaName", "emailAddress", "age", "wasDeleted");
+
+  @Getter
+  private final Student student = new Student();
+
+  @Getter
+  private final Set<String> fieldSet = new LinkedHashSet<>();
+
+  private final Map<String, String> errors = new LinkedHashMap<>();
+
+  private StudentPatch() {
+  }
+
+  /**
+   * リクエストボディを部分更新の内容に変換します。
+   * 更新できない項目や型の合わない値は、受講生には設定せずエラーとして保持します。
+   *
+   * @param patch　リクエストボディ（項目名と値のマップ）
+   * @return　部分更新の内容
+   */
+  public static StudentPatch parse(Map<String, Object> patch) {
+    StudentPatch studentPatch = new StudentPatch();
+    patch.forEach(studentPatch::put);
+    return studentPatch;
+  }
+
+  /**
+   * 受講生の入力チェックを、部分更新に含まれる項目のみに行います。
+   *
+   * @param validator　Validator
+   * @return　項目名とエラーメッセージのマップ（問題がない場合は空）
+   */
+  public Map<String, String> validate(Validator validator) {
+    Map<String, String> result = new LinkedHashMap<>(errors);
+    for (String field : fieldSet) {
+      Set<ConstraintViolation<Student>> violations = validator.validateProperty(student, field);
+      violations.stream()
+          .findFirst()
+          .ifPresent(violation -> result.putIfAbsent(field, violation.getMessage()));
+    }
+    return result;
+  }
+
+  private void put(String field, Object value) {
+    if (!PROPERTIES.contains(field)) {
+      errors.put(field, "更新できない項目です。");
+      return;
+    }
+    if (value == null) {
+      if (NOT_NULL_PROPERTIES.contains(field)) {
+        errors.put(field, "nullは指定できません。");
+        return;
+      }
+    } else if (!isAssignable(field, value)) {
+      errors.put(field, "値の型が不正です。");
+      return;
+    }
+    switch (field) {
+      case "name" -> student.setName((String) value);
+      case "kanaName" -> student.setKanaName((String) value);
+      case "nickname" -> student.setNickname((String) value);
+      case "emailAddress" -> student.setEmailAddress((String) value);
+      case "residence" -> student.setResidence((String) value);
+      case "age" -> student.setAge((Integer) value);
+      case "gender" -> student.setGender((String) value);
+      case "remark" -> student.setRemark((String) value);
+      case "wasDeleted" -> student.setWasDeleted((Boolean) value);
+      default -> throw new IllegalStateException(field);
+    }
+    fieldSet.add(field);
+  }
+
+  private static boolean isAssignable(String field, Object value) {
+    return switch (field) {
+      case "age" -> value instanceof Integer;
+      case "wasDeleted" -> value instanceof Boolean;
+      default -> value instanceof String;
+    };
+  }
+}
@@ -0,0 +1,26 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "受講生詳細の更新結果")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class StudentUpdateResult {
+
+  @Schema(description = "実行結果", example = "更新処理が成功しました。")
+  private String message;
+
+  @Schema(description = "変更された項目（変更がない場合は空）",
+      example = "[\"student.residence\", \"courseDetailList[0].applicationStatus.applicationStatus\"]")
+  private List<String> changedFieldList = new ArrayList<>();
+
+}
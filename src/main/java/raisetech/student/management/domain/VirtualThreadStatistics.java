@@ -0,0 +1,40 @@
+package raisetech.student.management.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "仮想スレッドでのリクエスト処理の統計情報")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class VirtualThreadStatistics {
+
+  @Schema(description = "仮想スレッドでリクエストを処理しているか（spring.threads.virtual.enabled）", example = "true")
+  private boolean enabled;
+
+  @Schema(description = "受講生APIの同時実行数の上限（コネクションプールの大きさ）", example = "10")
+  private int maxConcurrentRequests;
+
+  @Schema(description = "実行中のリクエスト数", example = "10")
+  private int activeRequests;
+
+  @Schema(description = "実行枠を待っているリクエスト数", example = "35")
+  private int waitingRequests;
+
+  @Schema(description = "待機時間を超えて503を返したリクエスト数", example = "0")
+  private long rejectedCount;
+
+  @Schema(description = "仮想スレッドがキャリアスレッドに固定された件数", example = "0")
+  private long pinnedCount;
+
+  @Schema(description = "直近に固定された時のスタックトレース（新しい順）")
+  private List<String> recentPinnedStackTraces = new ArrayList<>();
+
+}
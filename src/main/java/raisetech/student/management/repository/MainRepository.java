@@ -3,9 +3,13 @@ package raisetech.student.management.repository;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import raisetech.student.management.data.ApplicationStatus;
 import raisetech.student.management.data.Student;
 import raisetech.student.management.data.Course;
+import raisetech.student.management.domain.EnrollmentCount;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentPatch;
 
 /**
  * 受講生テーブルと受講生コース情報テーブルと紐づくRepositoryです。
@@ -20,6 +24,21 @@ public interface MainRepository {
    */
   List<Student> searchAllStudents();
 
+  /**
+   * 受講生の件数を取得します。
+   *
+   * @return　受講生数（全件）
+   */
+  long countStudents();
+
+  /**
+   * 受講生をID順に1件ずつ読み出すカーソルを取得します。
+   * カーソルはトランザクション内でのみ読み出しが可能です。
+   *
+   * @return　受講生カーソル（全件）
+   */
+  Cursor<Student> streamAllStudents();
+
   /**
    * 受講生IDに紐づく受講生検索を行います。
    *
@@ -28,6 +47,23 @@ public interface MainRepository {
    */
   Student fetchById(int id);
 
+  /**
+   * 受講生IDに紐づく受講生詳細のバージョンを取得します。
+   * バージョンは受講生の更新（コース情報・申込状況の更新を含む）ごとに加算されます。
+   *
+   * @param id　受講生ID
+   * @return　バージョン（受講生が存在しない場合はnull）
+   */
+  Integer fetchVersionById(int id);
+
+  /**
+   * 受講生IDの一覧に紐づく受講生検索を行います。
+   *
+   * @param idList　受講生ID
+   * @return　受講生一覧（順序は保証しません）
+   */
+  List<Student> fetchByIds(List<Integer> idList);
+
   /**
    * 条件付き検索を行います。
    *
@@ -36,6 +72,7 @@ public interface MainRepository {
    * @param gender
    * @param courseName
    * @param applicationStatus
+   * @param idList　対象の受講生ID（検索インデックスで絞り込んだ候補、絞り込まない場合はnull）
    * @return　受講生情報
    */
   List<Student> searchStudentByCriteria(
@@ -43,7 +80,84 @@ public interface MainRepository {
       @Param("emailAddress") String emailAddress,
       @Param("gender") String gender,
       @Param("courseName") String courseName,
-      @Param("applicationStatus") String applicationStatus);
+      @Param("applicationStatus") String applicationStatus,
+      @Param("idList") List<Integer> idList);
+
+  /**
+   * 条件付き検索をページ単位で行います。
+   * 受講生IDをキーにしたキーセット方式で、afterより大きいIDをID順にlimit件まで取得します。
+   *
+   * @param name
+   * @param emailAddress
+   * @param gender
+   * @param courseName
+   * @param applicationStatus
+   * @param idList　対象の受講生ID（検索インデックスで絞り込んだ候補、絞り込まない場合はnull）
+   * @param after　前ページ最後の受講生ID（先頭ページの場合はnull）
+   * @param limit　取得件数
+   * @param columns　検索するカラム（StudentFieldsのカラム名のみ、全カラムの場合はnull）
+   * @return　受講生情報
+   */
+  List<Student> searchStudentPageByCriteria(
+      @Param("name") String name,
+      @Param("emailAddress") String emailAddress,
+      @Param("gender") String gender,
+      @Param("courseName") String courseName,
+      @Param("applicationStatus") String applicationStatus,
+      @Param("idList") List<Integer> idList,
+      @Param("after") Integer after,
+      @Param("limit") int limit,
+      @Param("columns") List<String> columns);
+
+  /**
+   * 受講生IDに紐づく受講生詳細を、受講生・コース情報・申込状況を結合した1回のクエリで取得します。
+   *
+   * @param id　受講生ID
+   * @return　受講生詳細
+   */
+  StudentDetail fetchDetailById(int id);
+
+  /**
+   * 条件付き検索を行い、受講生詳細を1回の結合クエリで取得します。
+   *
+   * @param name
+   * @param emailAddress
+   * @param gender
+   * @param courseName
+   * @param applicationStatus
+   * @param idList　対象の受講生ID（検索インデックスで絞り込んだ候補、絞り込まない場合はnull）
+   * @return　受講生詳細一覧
+   */
+  List<StudentDetail> searchDetailsByCriteria(
+      @Param("name") String name,
+      @Param("emailAddress") String emailAddress,
+      @Param("gender") String gender,
+      @Param("courseName") String courseName,
+      @Param("applicationStatus") String applicationStatus,
+      @Param("idList") List<Integer> idList);
+
+  /**
+   * 条件付き検索をページ単位で行い、受講生詳細を1回の結合クエリで取得します。
+   *
+   * @param name
+   * @param emailAddress
+   * @param gender
+   * @param courseName
+   * @param applicationStatus
+   * @param idList　対象の受講生ID（検索インデックスで絞り込んだ候補、絞り込まない場合はnull）
+   * @param after　前ページ最後の受講生ID（先頭ページの場合はnull）
+   * @param limit　取得件数
+   * @return　受講生詳細一覧
+   */
+  List<StudentDetail> searchDetailPageByCriteria(
+      @Param("name") String name,
+      @Param("emailAddress") String emailAddress,
+      @Param("gender") String gender,
+      @Param("courseName") String courseName,
+      @Param("applicationStatus") String applicationStatus,
+      @Param("idList") List<Integer> idList,
+      @Param("after") Integer after,
+      @Param("limit") int limit);
 
   /**
    * 受講生のコース情報の全件検索を行います。
@@ -66,6 +180,13 @@ public interface MainRepository {
    */
   void registerStudent(Student student);
 
+  /**
+   * 受講生を論理削除の状態を含めて新規登録します。IDに関しては自動採番を行う。CSVの取り込みで使用します。
+   *
+   * @param student　受講生
+   */
+  void importStudent(Student student);
+
   /**
    * 受講生コース情報を新規登録します。IDに関しては自動採番を行う。
    *
@@ -74,12 +195,27 @@ public interface MainRepository {
   void registerCourse(Course course);
 
   /**
-   * 受講生を更新します。
+   * 受講生を更新し、受講生詳細のバージョンを加算します。
    *
    * @param student　受講生
    */
   void updateStudent(Student student);
 
+  /**
+   * 部分更新に含まれる項目のみ受講生を更新し、受講生詳細のバージョンを加算します。
+   *
+   * @param studentPatch　部分更新の内容（受講生IDを設定済みであること）
+   * @return　更新件数（受講生が存在しない場合は0）
+   */
+  int patchStudent(StudentPatch studentPatch);
+
+  /**
+   * 受講生詳細のバージョンのみを加算します。受講生は変更せず、コース情報や申込状況だけを更新した場合に使用します。
+   *
+   * @param id　受講生ID
+   */
+  void incrementVersion(int id);
+
   /**
    * 受講生コース情報のコース名を更新します。
    *
@@ -87,6 +223,20 @@ public interface MainRepository {
    */
   void updateCourseName(Course course);
 
+  /**
+   * 複数の受講生コース情報のコース名を1回の更新で更新します。
+   *
+   * @param courseList　受講生コース情報一覧（1件以上）
+   */
+  void updateCourseNames(List<Course> courseList);
+
+  /**
+   * コース名・申込状況ごとに受講生数（申込状況が登録された受講生コース情報の件数）を集計します。
+   *
+   * @return　コース名・申込状況ごとの受講生数
+   */
+  List<EnrollmentCount> countEnrollments();
+
   /**
    * 申込状況の全件検索
    *
@@ -107,12 +257,26 @@ public interface MainRepository {
    */
   void registerStatus(ApplicationStatus applicationStatus);
 
+  /**
+   * 複数の申込状況を1回の登録で新規登録します。IDに関しては自動採番を行う。
+   *
+   * @param statusList　申込状況一覧（1件以上）
+   */
+  void registerStatuses(List<ApplicationStatus> statusList);
+
   /**
    *
    * @param applicationStatus
    */
   void updateStatus(ApplicationStatus applicationStatus);
 
+  /**
+   * 複数の申込状況を1回の更新で更新します。
+   *
+   * @param statusList　申込状況一覧（1件以上）
+   */
+  void updateStatuses(List<ApplicationStatus> statusList);
+
   /**
    *
    * @param studentId
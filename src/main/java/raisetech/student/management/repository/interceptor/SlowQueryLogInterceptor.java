@@ -0,0 +1,216 @@
+package raisetech.student.management.repository.interceptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import raisetech.student.management.domain.SlowQuery;
+
+/**
+ * 実行時間がしきい値を超えたSQLを、バインドしたSQL・パラメータ・実行時間とともにログに出力するMyBatisのプラグインです。
+ * 検索の場合は、動的SQLで実際に生成されたSQLと同じパラメータでEXPLAINを仮想スレッドで非同期に実行し、実行計画を記録に添付します。
+ * 氏名やメールアドレスなどの個人情報にあたるパラメータは、ログと記録のいずれにもマスクして出力します。
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+            CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class SlowQueryLogInterceptor implements Interceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(SlowQueryLogInterceptor.class);
+
+  private static final String MASK = "***";
+
+  /** 個人情報としてマスクするパラメータ名です。 */
+  private static final Set<String> MASKED_PROPERTIES = Set.of(
+      "name", "kanaName", "nickname", "emailAddress", "residence", "remark");
+
+  private JdbcTemplate jdbcTemplate;
+
+  private long thresholdNanos;
+
+  private boolean explainEnabled;
+
+  private int historySize;
+
+  /** 同時に実行するEXPLAINは1件までとし、実行中に検出した分は実行計画を取得しません。 */
+  private Semaphore explainPermit = new Semaphore(1);
+
+  private Deque<SlowQuery> history = new ArrayDeque<>();
+
+  @Autowired
+  public SlowQueryLogInterceptor(
+      DataSource dataSource,
+      @Value("${student.slow-query.threshold-millis:1000}") long thresholdMillis,
+      @Value("${student.slow-query.explain:true}") boolean explainEnabled,
+      @Value("${student.slow-query.history-size:50}") int historySize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setQueryTimeout(10);
+    this.thresholdNanos = thresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    this.explainEnabled = explainEnabled;
+    this.historySize = historySize;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    if (thresholdNanos < 0) {
+      return invocation.proceed();
+    }
+    long start = System.nanoTime();
+    try {
+      return invocation.proceed();
+    } finally {
+      long elapsedNanos = System.nanoTime() - start;
+      if (elapsedNanos >= thresholdNanos) {
+        try {
+          onSlowQuery(invocation.getArgs(), elapsedNanos);
+        } catch (RuntimeException ex) {
+          log.warn("遅いSQLの記録に失敗しました。", ex);
+        }
+      }
+    }
+  }
+
+  /**
+   * 記録されている遅いSQLを新しい順に取得します。
+   *
+   * @return　遅いSQLの実行記録
+   */
+  public List<SlowQuery> slowQueries() {
+    synchronized (history) {
+      return new ArrayList<>(history);
+    }
+  }
+
+  private void onSlowQuery(Object[] args, long elapsedNanos) {
+    MappedStatement mappedStatement = (MappedStatement) args[0];
+    Object parameterObject = args[1];
+    BoundSql boundSql = (args.length == 6)
+        ? (BoundSql) args[5]
+        : mappedStatement.getBoundSql(parameterObject);
+    String statementId = mappedStatement.getId().substring(mappedStatement.getId().lastIndexOf('.') + 1);
+    String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+
+    List<Object> valueList = new ArrayList<>();
+    List<String> parameterList = new ArrayList<>();
+    Configuration configuration = mappedStatement.getConfiguration();
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      if (parameterMapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = parameterMapping.getProperty();
+      Object value = parameterValue(configuration, boundSql, parameterObject, property);
+      valueList.add(value);
+      parameterList.add(property + "=" + mask(property, value));
+    }
+
+    SlowQuery slowQuery = new SlowQuery(statementId, sql, parameterList,
+        elapsedNanos / 1_000_000.0, LocalDateTime.now(), null);
+    synchronized (history) {
+      history.addFirst(slowQuery);
+      while (history.size() > historySize) {
+        history.removeLast();
+      }
+    }
+    log.warn("遅いSQLを検出しました。statement={}, elapsed={}ms, sql={}, parameters={}",
+        statementId, String.format("%.1f", slowQuery.getElapsedMillis()), sql, parameterList);
+
+    if (explainEnabled && mappedStatement.getSqlCommandType() == SqlCommandType.SELECT
+        && explainPermit.tryAcquire()) {
+      Thread.ofVirtual().name("slow-query-explain").start(() -> {
+        try {
+          explain(slowQuery, valueList);
+        } finally {
+          explainPermit.release();
+        }
+      });
+    }
+  }
+
+  /**
+   * 遅いSQLと同じSQL・パラメータでEXPLAINを実行し、実行計画を記録に添付します。
+   *
+   * @param slowQuery　遅いSQLの実行記録
+   * @param valueList　バインドするパラメータの値
+   */
+  void explain(SlowQuery slowQuery, List<Object> valueList) {
+    try {
+      List<String> plan = jdbcTemplate.query("EXPLAIN " + slowQuery.getSql(),
+          ps -> {
+            for (int i = 0; i < valueList.size(); i++) {
+              ps.setObject(i + 1, valueList.get(i));
+            }
+          },
+          (rs, rowNum) -> {
+            int columnCount = rs.getMetaData().getColumnCount();
+            StringBuilder row = new StringBuilder();
+            for (int i = 1; i <= columnCount; i++) {
+              if (i > 1) {
+                row.append(", ");
+              }
+              row.append(rs.getMetaData().getColumnLabel(i)).append('=').append(rs.getString(i));
+            }
+            return row.toString();
+          });
+      synchronized (history) {
+        slowQuery.setPlan(plan);
+      }
+      log.warn("遅いSQLの実行計画です。statement={}, plan={}", slowQuery.getStatementId(), plan);
+    } catch (RuntimeException ex) {
+      log.warn("遅いSQLの実行計画を取得できませんでした。statement={}", slowQuery.getStatementId(), ex);
+    }
+  }
+
+  private static Object parameterValue(
+      Configuration configuration, BoundSql boundSql, Object parameterObject, String property) {
+    if (boundSql.hasAdditionalParameter(property)) {
+      return boundSql.getAdditionalParameter(property);
+    }
+    if (parameterObject == null) {
+      return null;
+    }
+    if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+      return parameterObject;
+    }
+    return configuration.newMetaObject(parameterObject).getValue(property);
+  }
+
+  static String mask(String property, Object value) {
+    if (value == null) {
+      return "null";
+    }
+    String name = property.substring(property.lastIndexOf('.') + 1);
+    return MASKED_PROPERTIES.contains(name) ? MASK : String.valueOf(value);
+  }
+}
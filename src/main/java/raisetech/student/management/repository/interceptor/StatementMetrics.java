@@ -0,0 +1,100 @@
+package raisetech.student.management.repository.interceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import raisetech.student.management.domain.StatementStatistics;
+
+/**
+ * マップドステートメント1件分の実行回数・エラー回数・取得件数・実行時間を集計します。
+ * 実行時間はマイクロ秒単位の2の累乗ごとのバケットで記録するヒストグラムで、記録時にオブジェクトを生成しません。
+ */
+public class StatementMetrics {
+
+  /** バケットiは 2^(i-1) 以上 2^i 未満マイクロ秒。最後のバケットはそれ以上をすべて含みます。 */
+  private static final int BUCKET_COUNT = 26;
+
+  private final String statementId;
+
+  private final LongAdder count = new LongAdder();
+
+  private final LongAdder errorCount = new LongAdder();
+
+  private final LongAdder rowCount = new LongAdder();
+
+  private final LongAdder totalNanos = new LongAdder();
+
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+  public StatementMetrics(String statementId) {
+    this.statementId = statementId;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * 1回分の実行結果を記録します。
+   *
+   * @param elapsedNanos　実行時間（ナノ秒）
+   * @param rows　取得・更新件数
+   * @param failed　例外が発生した場合true
+   */
+  public void record(long elapsedNanos, long rows, boolean failed) {
+    count.increment();
+    if (failed) {
+      errorCount.increment();
+    }
+    rowCount.add(rows);
+    totalNanos.add(elapsedNanos);
+    maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+    int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+    buckets[bucket].increment();
+  }
+
+  /**
+   * 集計結果のスナップショットを取得します。
+   * パーセンタイルは該当するバケットの上限値（ミリ秒）です。
+   *
+   * @return　統計情報
+   */
+  public StatementStatistics snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets[i].sum();
+      total += counts[i];
+    }
+    long calls = count.sum();
+    double totalMillis = totalNanos.sum() / 1_000_000.0;
+    return new StatementStatistics(
+        statementId,
+        calls,
+        errorCount.sum(),
+        rowCount.sum(),
+        totalMillis,
+        calls == 0 ? 0 : totalMillis / calls,
+        maxNanos.get() / 1_000_000.0,
+        percentile(counts, total, 0.50),
+        percentile(counts, total, 0.95),
+        percentile(counts, total, 0.99));
+  }
+
+  private static double percentile(long[] counts, long total, double quantile) {
+    if (total == 0) {
+      return 0;
+    }
+    long threshold = (long) Math.ceil(total * quantile);
+    long cumulative = 0;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if (cumulative >= threshold) {
+        return (1L << i) / 1000.0;
+      }
+    }
+    return (1L << (counts.length - 1)) / 1000.0;
+  }
+}
@@ -0,0 +1,86 @@
+package raisetech.student.management.repository.interceptor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+import raisetech.student.management.domain.StatementStatistics;
+
+/**
+ * MainRepositoryのマップドステートメントごとに、実行時間・実行回数・取得件数を記録するMyBatisのプラグインです。
+ * Beanとして登録するとmybatis-spring-boot-starterがSqlSessionFactoryに組み込みます。
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+            CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+  private final Map<String, StatementMetrics> metricsMap = new ConcurrentHashMap<>();
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    long start = System.nanoTime();
+    boolean failed = true;
+    Object result = null;
+    try {
+      result = invocation.proceed();
+      failed = false;
+      return result;
+    } finally {
+      metricsFor(mappedStatement.getId()).record(System.nanoTime() - start, rowCount(result), failed);
+    }
+  }
+
+  /**
+   * 全ステートメントの統計情報を、実行時間の合計が大きい順に取得します。
+   *
+   * @return　統計情報一覧
+   */
+  public List<StatementStatistics> statistics() {
+    return metricsMap.values().stream()
+        .map(StatementMetrics::snapshot)
+        .sorted(Comparator.comparingDouble(StatementStatistics::getTotalMillis).reversed())
+        .toList();
+  }
+
+  private StatementMetrics metricsFor(String mappedStatementId) {
+    StatementMetrics metrics = metricsMap.get(mappedStatementId);
+    if (metrics == null) {
+      metrics = metricsMap.computeIfAbsent(mappedStatementId,
+          id -> new StatementMetrics(id.substring(id.lastIndexOf('.') + 1)));
+    }
+    return metrics;
+  }
+
+  private static long rowCount(Object result) {
+    if (result instanceof List<?> list) {
+      return list.size();
+    }
+    // バッチ実行の更新件数は確定していないため負の値が返る。Cursorは読み出し前のため件数に含めない
+    if (result instanceof Integer updated) {
+      return Math.max(updated, 0);
+    }
+    return 0;
+  }
+}
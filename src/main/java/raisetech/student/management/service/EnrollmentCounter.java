@@ -0,0 +1,176 @@
+package raisetech.student.management.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.management.domain.EnrollmentCount;
+import raisetech.student.management.domain.EnrollmentStatistics;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * コース名・申込状況ごとの受講生数をメモリ上で集計するコンポーネントです。
+ * 初回はデータベースの件数で集計し、受講生詳細の登録・更新はコミット後に差分で反映するので、
+ * 集計の取得時に受講生を読み込みません。
+ * 差分の反映と集計し直しが同時に行われた場合などのずれは、一定間隔（student.stats.enrollments.reconcile-seconds）で
+ * データベースの件数で集計し直して補正します。
+ */
+@Component
+public class EnrollmentCounter implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(EnrollmentCounter.class);
+
+  /** 申込状況の表示順です。 */
+  private static final List<String> STATUS_ORDER = List.of("仮申込", "本申込", "受講中", "受講終了");
+
+  private MainRepository repository;
+
+  private long reconcileSeconds;
+
+  private ReentrantLock reconcileLock = new ReentrantLock();
+
+  /** コース名・申込状況ごとの受講生数です。集計前はnullです。 */
+  private volatile Map<EnrollmentDelta.Key, Long> countMap;
+
+  private volatile LocalDateTime reconciledAt;
+
+  private ScheduledExecutorService scheduler;
+
+  @Autowired
+  public EnrollmentCounter(
+      MainRepository repository,
+      @Value("${student.stats.enrollments.reconcile-seconds:300}") long reconcileSeconds) {
+    this.repository = repository;
+    this.reconcileSeconds = reconcileSeconds;
+  }
+
+  /**
+   * 起動完了後に集計し、以降は一定間隔で集計し直します。間隔が0以下の場合は、初回の取得時にのみ集計します。
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (reconcileSeconds <= 0) {
+      return;
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofVirtual().name("enrollment-reconcile").factory());
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        reconcile();
+      } catch (RuntimeException ex) {
+        log.warn("受講生数の集計に失敗しました。前回の集計に差分を反映した件数を継続して使用します。", ex);
+      }
+    }, 0, reconcileSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * データベースの件数で集計し直します。差分で反映した件数とずれていた場合は、ログに出力して置き換えます。
+   */
+  public void reconcile() {
+    reconcileLock.lock();
+    try {
+      Map<EnrollmentDelta.Key, Long> loadedMap = new ConcurrentHashMap<>();
+      repository.countEnrollments().forEach(count -> loadedMap.put(
+          new EnrollmentDelta.Key(count.getCourseName(), count.getApplicationStatus()), count.getStudentCount()));
+      Map<EnrollmentDelta.Key, Long> previousMap = countMap;
+      if (previousMap != null && !previousMap.equals(loadedMap)) {
+        log.info("受講生数の集計をデータベースの件数で補正しました。補正前: {}, 補正後: {}", previousMap, loadedMap);
+      }
+      countMap = loadedMap;
+      reconciledAt = LocalDateTime.now();
+    } finally {
+      reconcileLock.unlock();
+    }
+  }
+
+  /**
+   * 受講生数の差分を反映します。トランザクション中の場合はコミット後に反映し、ロールバックされた場合は反映しません。
+   *
+   * @param enrollmentDelta　受講生数の差分
+   */
+  public void applyAfterCommit(EnrollmentDelta enrollmentDelta) {
+    if (enrollmentDelta.isEmpty()) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply(enrollmentDelta);
+        }
+      });
+    } else {
+      apply(enrollmentDelta);
+    }
+  }
+
+  /**
+   * コース名・申込状況ごとの受講生数を、コース名・申込状況の順に取得します。集計前の場合は集計してから返します。
+   *
+   * @return　受講生数の集計
+   */
+  public EnrollmentStatistics statistics() {
+    if (countMap == null) {
+      reconcileLock.lock();
+      try {
+        if (countMap == null) {
+          reconcile();
+        }
+      } finally {
+        reconcileLock.unlock();
+      }
+    }
+    List<EnrollmentCount> countList = countMap.entrySet().stream()
+        .map(entry -> new EnrollmentCount(
+            entry.getKey().courseName(), entry.getKey().applicationStatus(), entry.getValue()))
+        .sorted(Comparator.comparing(EnrollmentCount::getCourseName)
+            .thenComparing(count -> statusOrder(count.getApplicationStatus())))
+        .toList();
+    long totalCount = countList.stream()
+        .mapToLong(EnrollmentCount::getStudentCount)
+        .sum();
+    return new EnrollmentStatistics(countList, totalCount, reconciledAt);
+  }
+
+  @Override
+  public void destroy() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * 差分を反映します。集計前の場合は、初回の集計にデータベースの件数として含まれるので反映しません。
+   * 受講生数が0以下になった組み合わせは除きます。
+   */
+  private void apply(EnrollmentDelta enrollmentDelta) {
+    Map<EnrollmentDelta.Key, Long> currentMap = countMap;
+    if (currentMap == null) {
+      return;
+    }
+    enrollmentDelta.deltaMap().forEach((key, diff) -> currentMap.compute(key, (k, current) -> {
+      long count = ((current == null) ? 0 : current) + diff;
+      return (count <= 0) ? null : count;
+    }));
+  }
+
+  private static int statusOrder(String applicationStatus) {
+    int index = STATUS_ORDER.indexOf(applicationStatus);
+    return (index < 0) ? STATUS_ORDER.size() : index;
+  }
+}
@@ -0,0 +1,57 @@
+package raisetech.student.management.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 1つのトランザクションで変わる、コース名・申込状況ごとの受講生数の差分です。
+ * 受講生詳細の登録・更新で差分を記録し、コミット後にEnrollmentCounterへ反映します。
+ */
+public class EnrollmentDelta {
+
+  /** 集計の単位（コース名・申込状況の組み合わせ）です。 */
+  record Key(String courseName, String applicationStatus) {
+  }
+
+  private Map<Key, Long> deltaMap = new HashMap<>();
+
+  /**
+   * コース名・申込状況の受講生数を1増やします。
+   *
+   * @param courseName　コース名
+   * @param applicationStatus　申込状況
+   */
+  public void add(String courseName, String applicationStatus) {
+    merge(new Key(courseName, applicationStatus), 1);
+  }
+
+  /**
+   * コース名・申込状況の受講生数を1減らします。
+   *
+   * @param courseName　コース名
+   * @param applicationStatus　申込状況
+   */
+  public void remove(String courseName, String applicationStatus) {
+    merge(new Key(courseName, applicationStatus), -1);
+  }
+
+  /**
+   * 差分がないかを返します。増減が打ち消し合った組み合わせは差分に含めません。
+   *
+   * @return　差分がない場合true
+   */
+  public boolean isEmpty() {
+    return deltaMap.isEmpty();
+  }
+
+  Map<Key, Long> deltaMap() {
+    return deltaMap;
+  }
+
+  private void merge(Key key, long diff) {
+    deltaMap.compute(key, (k, current) -> {
+      long merged = ((current == null) ? 0 : current) + diff;
+      return (merged == 0) ? null : merged;
+    });
+  }
+}
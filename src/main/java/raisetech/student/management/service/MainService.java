@@ -1,18 +1,30 @@
 package raisetech.student.management.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import raisetech.student.management.controller.converter.MainConverter;
 import raisetech.student.management.data.ApplicationStatus;
 import raisetech.student.management.data.Student;
 import raisetech.student.management.data.Course;
+import raisetech.student.management.domain.StudentBatchGetResult;
 import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentFields;
+import raisetech.student.management.domain.StudentPage;
+import raisetech.student.management.domain.StudentPatch;
+import raisetech.student.management.domain.StudentUpdateResult;
 import raisetech.student.management.repository.MainRepository;
 
 /**
@@ -27,15 +39,66 @@ public class MainService {
   @Autowired
   private MainConverter converter;
 
+  private StudentDetailCache detailCache;
+
+  private ParallelQueryExecutor queryExecutor;
+
+  private StudentSearchIndex searchIndex;
+
+  private RequestCoalescer coalescer;
+
+  private StudentDetailUpdater detailUpdater;
+
+  private StudentSearchCache searchCache;
+
+  private EnrollmentCounter enrollmentCounter;
+
+  private boolean joinFetch;
+
+  /** 同時に実行された同一検索と、検索結果キャッシュのキーです。検索条件は正規化して保持します。 */
+  private record StudentIdKey(Integer id) {
+  }
+
+  private record StudentListKey(
+      String name, String emailAddress, String gender, String courseName, String applicationStatus) {
+  }
+
+  private record StudentPageKey(
+      String name, String emailAddress, String gender, String courseName, String applicationStatus,
+      Integer after, int limit, StudentFields fields) {
+  }
+
   @Autowired
-  public MainService(MainRepository repository, MainConverter converter) {
+  public MainService(
+      MainRepository repository,
+      MainConverter converter,
+      StudentDetailCache detailCache,
+      ParallelQueryExecutor queryExecutor,
+      StudentSearchIndex searchIndex,
+      RequestCoalescer coalescer,
+      StudentDetailUpdater detailUpdater,
+      StudentSearchCache searchCache,
+      EnrollmentCounter enrollmentCounter,
+      @Value("${student.detail.join-fetch:false}") boolean joinFetch) {
     this.repository = repository;
     this.converter = converter;
+    this.detailCache = detailCache;
+    this.queryExecutor = queryExecutor;
+    this.searchIndex = searchIndex;
+    this.coalescer = coalescer;
+    this.detailUpdater = detailUpdater;
+    this.searchCache = searchCache;
+    this.enrollmentCounter = enrollmentCounter;
+    this.joinFetch = joinFetch;
   }
 
   /**
    * 受講生詳細の一覧検索を行います。
    * 全件検索を行うので、条件指定は行いません。
+   * 結合取得モード（student.detail.join-fetch=true）の場合は、受講生詳細を1回の結合クエリで取得します。
+   * 氏名・メールアドレスの条件は、検索インデックスで受講生IDの候補に絞り込んでから検索します。
+   * 同じ条件の検索が同時に実行された場合は、1回の検索結果を共有します。
+   * 検索結果の受講生ID一覧は検索結果キャッシュに保持し、ヒットした場合は受講生詳細キャッシュから組み立てます。
    *
    * @return　受講生詳細一覧（全件）
    */
@@ -45,27 +108,239 @@ public class MainService {
       String gender,
       String courseName,
       String applicationStatus) {
+    StudentListKey key = new StudentListKey(
+        normalize(name), normalize(emailAddress), normalize(gender), normalize(courseName),
+        normalize(applicationStatus));
+    return coalescer.execute(key, () -> searchCache.get(
+        key,
+        () -> new StudentPage(loadStudentList(
+            key.name(), key.emailAddress(), key.gender(), key.courseName(), key.applicationStatus()), null),
+        this::resolveDetails)
+        .getStudentDetailList());
+  }
+
+  private List<StudentDetail> loadStudentList(
+      String name,
+      String emailAddress,
+      String gender,
+      String courseName,
+      String applicationStatus) {
+    List<Integer> idList = searchIndex.candidateIds(name, emailAddress);
+    if (idList != null && idList.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (joinFetch) {
+      return repository.searchDetailsByCriteria(
+          name, emailAddress, gender, courseName, applicationStatus, idList);
+    }
     List<Student> studentList = repository.searchStudentByCriteria(
-        name, emailAddress, gender, courseName, applicationStatus);
+        name, emailAddress, gender, courseName, applicationStatus, idList);
+    return assembleDetails(studentList);
+  }
+
+  /**
+   * 受講生詳細の一覧検索をページ単位で行います。
+   * 受講生IDをカーソルとして、afterより後ろの受講生をlimit件まで取得します。
+   * 次のページが存在する場合は、このページ最後の受講生IDを次ページのカーソルとして返します。
+   *
+   * @param after　前ページ最後の受講生ID（先頭ページの場合はnull）
+   * @param limit　1ページの取得件数
+   * @return　受講生詳細一覧（1ページ分）
+   */
+  public StudentPage searchStudentPage(
+      String name,
+      String emailAddress,
+      String gender,
+      String courseName,
+      String applicationStatus,
+      Integer after,
+      int limit) {
+    return searchStudentPage(name, emailAddress, gender, courseName, applicationStatus, after, limit, null);
+  }
+
+  /**
+   * 受講生詳細の一覧検索を、レスポンスに含める項目に絞ってページ単位で行います。
+   * 受講生テーブルは指定された項目のカラムのみを検索し、courseDetailListが指定されていない場合は
+   * コース情報と申込状況を取得しません。
+   * 同じ条件の検索が同時に実行された場合は、1回の検索結果を共有します。
+   * 全項目を返す場合は、検索結果の受講生ID一覧を検索結果キャッシュに保持し、ヒットした場合は受講生詳細キャッシュから組み立てます。
+   *
+   * @param after　前ページ最後の受講生ID（先頭ページの場合はnull）
+   * @param limit　1ページの取得件数
+   * @param fields　レスポンスに含める項目（全項目の場合はnull）
+   * @return　受講生詳細一覧（1ページ分）
+   */
+  public StudentPage searchStudentPage(
+      String name,
+      String emailAddress,
+      String gender,
+      String courseName,
+      String applicationStatus,
+      Integer after,
+      int limit,
+      StudentFields fields) {
+    StudentPageKey key = new StudentPageKey(
+        normalize(name), normalize(emailAddress), normalize(gender), normalize(courseName),
+        normalize(applicationStatus), after, limit, fields);
+    Supplier<StudentPage> loader = () -> loadStudentPage(
+        key.name(), key.emailAddress(), key.gender(), key.courseName(), key.applicationStatus(),
+        after, limit, fields);
+    if (fields != null) {
+      return coalescer.execute(key, loader);
+    }
+    return coalescer.execute(key, () -> searchCache.get(key, loader, this::resolveDetails));
+  }
+
+  private StudentPage loadStudentPage(
+      String name,
+      String emailAddress,
+      String gender,
+      String courseName,
+      String applicationStatus,
+      Integer after,
+      int limit,
+      StudentFields fields) {
+    List<Integer> idList = searchIndex.candidateIds(name, emailAddress);
+    if (idList != null && idList.isEmpty()) {
+      return new StudentPage(Collections.emptyList(), null);
+    }
+    boolean includesCourseDetails = (fields == null) || fields.includesCourseDetails();
+    if (joinFetch && includesCourseDetails) {
+      List<StudentDetail> fetchedList = repository.searchDetailPageByCriteria(
+          name, emailAddress, gender, courseName, applicationStatus, idList, after, limit + 1);
+      List<StudentDetail> detailList = (fetchedList == null) ? Collections.emptyList() : fetchedList;
+      if (detailList.size() > limit) {
+        detailList = detailList.subList(0, limit);
+        return new StudentPage(detailList, detailList.get(limit - 1).getStudent().getId());
+      }
+      return new StudentPage(detailList, null);
+    }
+
+    List<String> columns = (fields == null) ? null : fields.columnList();
+    List<Student> fetchedList = repository.searchStudentPageByCriteria(
+        name, emailAddress, gender, courseName, applicationStatus, idList, after, limit + 1, columns);
+    List<Student> studentList = (fetchedList == null) ? Collections.emptyList() : fetchedList;
+
+    Integer nextCursor = null;
+    if (studentList.size() > limit) {
+      studentList = studentList.subList(0, limit);
+      nextCursor = studentList.get(limit - 1).getId();
+    }
+    if (!includesCourseDetails) {
+      List<StudentDetail> detailList = studentList.stream()
+          .map(student -> new StudentDetail(student, Collections.emptyList()))
+          .toList();
+      return new StudentPage(detailList, nextCursor);
+    }
+    return new StudentPage(assembleDetails(studentList), nextCursor);
+  }
+
+  /**
+   * 複数の受講生IDに紐づく受講生詳細をまとめて検索します。
+   * 受講生・コース情報・申込状況をそれぞれ1回のIN検索で取得し、リクエストしたIDの順に並べます。
+   * 重複したIDは1件にまとめ、受講生が存在しないIDは見つからなかったIDとして返します。
+   *
+   * @param idList　受講生ID一覧
+   * @return　受講生詳細の複数ID検索結果
+   */
+  public StudentBatchGetResult searchStudentsByIds(List<Integer> idList) {
+    List<Integer> distinctIdList = idList.stream()
+        .distinct()
+        .toList();
+    Map<Integer, StudentDetail> detailMap = distinctIdList.isEmpty()
+        ? Collections.emptyMap()
+        : fetchDetailsByIds(distinctIdList);
+    StudentBatchGetResult result = new StudentBatchGetResult();
+    for (Integer id : distinctIdList) {
+      StudentDetail detail = detailMap.get(id);
+      if (detail == null) {
+        result.getMissingIdList().add(id);
+      } else {
+        result.getStudentDetailList().add(detail);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 受講生ID一覧に紐づく受講生詳細を、受講生詳細キャッシュを使用してID一覧の順に組み立てます。
+   * キャッシュにない受講生詳細は、まとめて読み込みます。
+   *
+   * @param idList　受講生ID一覧
+   * @return　受講生詳細一覧
+   */
+  private List<StudentDetail> resolveDetails(List<Integer> idList) {
+    if (idList.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Map<Integer, StudentDetail> detailMap = detailCache.getAll(idList, this::fetchDetailsByIds);
+    return idList.stream()
+        .map(detailMap::get)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  /**
+   * 受講生ID一覧に紐づく受講生詳細を、受講生・コース情報・申込状況それぞれ1回のIN検索（結合取得モードの場合は1回の結合クエリ）で取得します。
+   *
+   * @param idList　受講生ID一覧
+   * @return　受講生IDと受講生詳細のマップ（存在しない受講生は含まない）
+   */
+  private Map<Integer, StudentDetail> fetchDetailsByIds(List<Integer> idList) {
+    List<StudentDetail> fetchedList = joinFetch
+        ? repository.searchDetailsByCriteria(null, null, null, null, null, idList)
+        : assembleDetails(repository.fetchByIds(idList));
+    Map<Integer, StudentDetail> detailMap = HashMap.newHashMap(idList.size());
+    if (fetchedList != null) {
+      fetchedList.forEach(detail -> detailMap.put(detail.getStudent().getId(), detail));
+    }
+    return detailMap;
+  }
+
+  /**
+   * 受講生一覧に紐づくコース情報と申込状況をまとめて取得し、受講生詳細一覧を組み立てます。
+   * コース情報と申込状況は受講生IDのみに依存するので、並行実行モードでは同時に取得します。
+   *
+   * @param studentList　受講生一覧
+   * @return　受講生詳細一覧
+   */
+  private List<StudentDetail> assembleDetails(List<Student> studentList) {
     if (studentList == null || studentList.isEmpty()) {
       return converter.convertDetails(studentList, Collections.emptyList(), Collections.emptyList());
     }
     List<Integer> studentIdList = studentList.stream()
         .map(student -> student.getId())
         .toList();
-    List<Course> courseList = repository.searchCoursesByStudentId(studentIdList);
+    CompletableFuture<List<Course>> courseFuture = queryExecutor.fork(
+        () -> repository.searchCoursesByStudentId(studentIdList));
     List<ApplicationStatus> statusList = repository.searchStatusByStudentId(studentIdList);
+    List<Course> courseList = queryExecutor.join(courseFuture);
     return converter.convertDetails(studentList, courseList, statusList);
   }
 
   /**
    * 受講生詳細検索です。
-   * IDに紐づく受講生情報を取得したあと、その受講生に紐づく受講生コース情報を取得して設定します。
+   * キャッシュにない場合のみ、データベースから受講生詳細を読み込みます。
+   * 同じ受講生の検索が同時に実行された場合は、1回の読み込み結果を共有します。
    *
    * @param id　受講生ID
    * @return　受講生詳細
    */
   public StudentDetail searchStudentId(Integer id) {
+    return coalescer.execute(new StudentIdKey(id), () -> detailCache.get(id, this::loadStudentDetail));
+  }
+
+  /**
+   * IDに紐づく受講生情報を取得したあと、その受講生に紐づく受講生コース情報を取得して設定します。
+   * 結合取得モードの場合は、受講生詳細を1回の結合クエリで取得します。
+   *
+   * @param id　受講生ID
+   * @return　受講生詳細
+   */
+  StudentDetail loadStudentDetail(Integer id) {
+    if (joinFetch) {
+      return repository.fetchDetailById(id);
+    }
     Student student = repository.fetchById(id);
     if (student == null) {
       return null;
@@ -94,6 +369,7 @@ public class MainService {
   /**
    * 受講生詳細の登録を行います。
    * 受講生と受講生コース情報を個別に登録し、受講生コース情報には受講生情報を紐づける値や日付情報（コース開始日）を設定します。
+   * 登録したコースの受講生数は、コミット後に受講生数の集計へ反映します。
    *
    * @param studentDetail　受講生詳細
    * @return　登録情報を付与した受講生詳細
@@ -103,6 +379,7 @@ public class MainService {
     Student student = studentDetail.getStudent();
     repository.registerStudent(student);
 
+    EnrollmentDelta enrollmentDelta = new EnrollmentDelta();
     studentDetail.getCourseDetailList().forEach(courseDetail -> {
       Course course = courseDetail.getCourse();
       ApplicationStatus status = Objects.requireNonNullElse(
@@ -113,33 +390,79 @@ public class MainService {
       repository.registerCourse(course);
       status.setCourseId(course.getId());
       repository.registerStatus(status);
+      enrollmentDelta.add(course.getCourseName(), status.getApplicationStatus());
     });
+    detailCache.evictAfterCommit(student.getId());
+    searchIndex.indexAfterCommit(student);
+    searchCache.invalidateAllAfterCommit();
+    coalescer.resetAfterCommit();
+    enrollmentCounter.applyAfterCommit(enrollmentDelta);
     return studentDetail;
   }
 
   /**
-   * 受講生詳細の更新を行います。受講生と受講生コース情報をそれぞれ更新します。
+   * 受講生詳細の更新を行います。
+   * 現在の受講生詳細との差分を取り、値が変わる受講生・コース情報・申込状況のみを1回のバッチで更新します。
+   * 変更がない場合は更新を行わず、キャッシュも無効化しません。
+   * コース名・申込状況の変更による受講生数の差分は、コミット後に受講生数の集計へ反映します。
    *
    * @param studentDetail　受講生詳細
+   * @return　更新結果（変更された項目）
    */
   @Transactional
-  public void updateStudent(StudentDetail studentDetail) {
-    studentDetail.getCourseDetailList().forEach(courseDetail -> {
-      repository.updateCourseName(courseDetail.getCourse());
-      Course course = courseDetail.getCourse();
+  public StudentUpdateResult updateStudent(StudentDetail studentDetail) {
+    EnrollmentDelta enrollmentDelta = new EnrollmentDelta();
+    List<String> changedFieldList = detailUpdater.update(studentDetail, enrollmentDelta);
+    if (!changedFieldList.isEmpty()) {
+      detailCache.evictAfterCommit(studentDetail.getStudent().getId());
+      searchIndex.indexAfterCommit(studentDetail.getStudent());
+      searchCache.invalidateAllAfterCommit();
+      coalescer.resetAfterCommit();
+      enrollmentCounter.applyAfterCommit(enrollmentDelta);
+    }
+    return new StudentUpdateResult("更新処理が成功しました。", changedFieldList);
+  }
 
-      ApplicationStatus status = Objects.requireNonNullElse(
-          courseDetail.getApplicationStatus(), new ApplicationStatus());
-      status.setCourseId(course.getId());
+  /**
+   * 受講生の部分更新を行います。部分更新に含まれる項目のカラムのみを更新し、受講生詳細のバージョンを加算します。
+   * 検索インデックスの対象項目（氏名・メールアドレス）を更新した場合は、更新後の受講生をインデックスに反映します。
+   *
+   * @param id　受講生ID
+   * @param studentPatch　部分更新の内容
+   * @return　更新結果（更新した項目）。受講生が存在しない場合はnull
+   */
+  @Transactional
+  public StudentUpdateResult patchStudent(Integer id, StudentPatch studentPatch) {
+    studentPatch.getStudent().setId(id);
+    if (studentPatch.getFieldSet().isEmpty()) {
+      return (repository.fetchVersionById(id) == null)
+          ? null
+          : new StudentUpdateResult("更新処理が成功しました。", new ArrayList<>());
+    }
+    if (repository.patchStudent(studentPatch) == 0) {
+      return null;
+    }
+    detailCache.evictAfterCommit(id);
+    Set<String> fieldSet = studentPatch.getFieldSet();
+    if (fieldSet.contains("name") || fieldSet.contains("emailAddress")) {
+      searchIndex.indexAfterCommit(repository.fetchById(id));
+    }
+    searchCache.invalidateAllAfterCommit();
+    coalescer.resetAfterCommit();
+    List<String> changedFieldList = fieldSet.stream()
+        .map(field -> "student." + field)
+        .toList();
+    return new StudentUpdateResult("更新処理が成功しました。", changedFieldList);
+  }
 
-      if (status.getId() == null) {
-        status.setApplicationStatus("仮申込");
-        repository.registerStatus(status);
-      } else {
-        repository.updateStatus(status);
-      }
-    });
-    repository.updateStudent(studentDetail.getStudent());
+  /**
+   * 検索条件を正規化します。空文字は条件なしと同じ検索になるので、nullにそろえます。
+   *
+   * @param criterion　検索条件
+   * @return　正規化した検索条件
+   */
+  private static String normalize(String criterion) {
+    return (criterion == null || criterion.isEmpty()) ? null : criterion;
   }
 
   /**
@@ -0,0 +1,86 @@
+package raisetech.student.management.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 互いに依存しない検索を仮想スレッドで並行実行するためのExecutorです。
+ * 並行実行中の検索数はアプリケーション全体で共有する上限で制限し、上限に達している場合は呼び出し元のスレッドで実行します。
+ * 仮想スレッド上の検索は呼び出し元とは別のコネクションを使うため、トランザクション中は並行実行しません。
+ */
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+  private ExecutorService executor;
+
+  private Semaphore permits;
+
+  private boolean enabled;
+
+  @Autowired
+  public ParallelQueryExecutor(
+      @Value("${student.query.parallel-fetch:false}") boolean enabled,
+      @Value("${student.query.max-concurrency:8}") int maxConcurrency) {
+    this.enabled = enabled && maxConcurrency > 0;
+    this.permits = new Semaphore(Math.max(maxConcurrency, 0));
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  /**
+   * 検索処理を仮想スレッドで開始します。
+   * 並行実行できない場合は、その場で実行して完了済みのFutureを返します。
+   *
+   * @param task　検索処理
+   * @return　検索結果のFuture
+   */
+  public <T> CompletableFuture<T> fork(Supplier<T> task) {
+    if (!enabled
+        || TransactionSynchronizationManager.isActualTransactionActive()
+        || !permits.tryAcquire()) {
+      return CompletableFuture.completedFuture(task.get());
+    }
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          return task.get();
+        } finally {
+          permits.release();
+        }
+      }, executor);
+    } catch (RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  /**
+   * 検索結果を待ち合わせて取得します。検索処理で発生した例外はそのまま送出します。
+   *
+   * @param future　forkで取得したFuture
+   * @return　検索結果
+   */
+  public <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
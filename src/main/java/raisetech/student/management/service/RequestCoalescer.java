@@ -0,0 +1,133 @@
+package raisetech.student.management.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.management.domain.CoalescingStatistics;
+
+/**
+ * 同じキーの検索が同時に実行された場合に、1回の読み込み結果を全ての呼び出し元で共有します（single-flight）。
+ * 後から来た呼び出し元は実行中の読み込みを一定時間まで待ち、待機時間を超えた場合は自身で読み込みます。
+ * 共有した結果は複数の呼び出し元に返すため、呼び出し元で変更しないでください。
+ * トランザクション中の呼び出しは、自身の未コミットの変更を読む必要があるため共有しません。
+ */
+@Component
+public class RequestCoalescer {
+
+  private Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  private boolean enabled;
+
+  private long waitMillis;
+
+  private LongAdder loadCount = new LongAdder();
+
+  private LongAdder coalescedCount = new LongAdder();
+
+  private LongAdder timeoutCount = new LongAdder();
+
+  @Autowired
+  public RequestCoalescer(
+      @Value("${student.coalescing.enabled:true}") boolean enabled,
+      @Value("${student.coalescing.wait-millis:3000}") long waitMillis) {
+    this.enabled = enabled;
+    this.waitMillis = waitMillis;
+  }
+
+  /**
+   * キーに対応する読み込みを実行します。同じキーの読み込みが実行中の場合は、その結果を待って返します。
+   *
+   * @param key　検索のキー（equals/hashCodeで同一の検索を判定）
+   * @param loader　読み込み処理
+   * @return　読み込み結果
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object key, Supplier<T> loader) {
+    if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return loader.get();
+    }
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+    if (running == null) {
+      return (T) load(key, future, loader);
+    }
+
+    coalescedCount.increment();
+    try {
+      return (T) running.get(waitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      timeoutCount.increment();
+      loadCount.increment();
+      return loader.get();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("検索結果の待機中に割り込まれました。", ex);
+    }
+  }
+
+  /**
+   * 実行中の読み込みとの共有を打ち切ります。
+   * 登録・更新のコミット前に開始した読み込みの結果を、コミット後の呼び出し元に返さないために使用します。
+   * トランザクション中の場合はコミット後に打ち切ります。
+   */
+  public void resetAfterCommit() {
+    if (!enabled) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          inFlight.clear();
+        }
+      });
+    } else {
+      inFlight.clear();
+    }
+  }
+
+  /**
+   * まとめ実行の統計情報を取得します。
+   *
+   * @return　統計情報
+   */
+  public CoalescingStatistics statistics() {
+    return new CoalescingStatistics(
+        loadCount.sum(),
+        coalescedCount.sum(),
+        timeoutCount.sum(),
+        inFlight.size());
+  }
+
+  private Object load(Object key, CompletableFuture<Object> future, Supplier<?> loader) {
+    loadCount.increment();
+    try {
+      Object result = loader.get();
+      future.complete(result);
+      return result;
+    } catch (RuntimeException | Error ex) {
+      future.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package raisetech.student.management.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.domain.BulkRegisterError;
+import raisetech.student.management.domain.BulkRegisterResult;
+import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * 受講生詳細の一括登録を行うServiceです。
+ * バッチモードのSqlSessionを使い、チャンク単位のトランザクションで受講生・コース情報・申込状況をまとめて登録します。
+ */
+@Service
+public class StudentBulkService {
+
+  private static final Logger log = LoggerFactory.getLogger(StudentBulkService.class);
+
+  private SqlSessionTemplate batchSession;
+
+  private MainRepository batchRepository;
+
+  private TransactionTemplate transactionTemplate;
+
+  private Validator validator;
+
+  private StudentSearchIndex searchIndex;
+
+  private StudentSearchCache searchCache;
+
+  private EnrollmentCounter enrollmentCounter;
+
+  private int chunkSize;
+
+  @Autowired
+  public StudentBulkService(
+      SqlSessionFactory sqlSessionFactory,
+      PlatformTransactionManager transactionManager,
+      Validator validator,
+      StudentSearchIndex searchIndex,
+      StudentSearchCache searchCache,
+      EnrollmentCounter enrollmentCounter,
+      @Value("${student.bulk.chunk-size:1000}") int chunkSize) {
+    this.batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    this.batchRepository = batchSession.getMapper(MainRepository.class);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.validator = validator;
+    this.searchIndex = searchIndex;
+    this.searchCache = searchCache;
+    this.enrollmentCounter = enrollmentCounter;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 受講生詳細の一括登録を行います。
+   * 入力チェックに失敗した受講生詳細は登録せず、その位置とエラー内容を結果に含めます。
+   * 登録に失敗したチャンクはロールバックし、1件ずつのトランザクションで登録し直して、失敗した受講生詳細だけを
+   * 原因のエラー内容とともに結果に含めます。
+   *
+   * @param studentDetailList　受講生詳細一覧
+   * @return　一括登録結果
+   */
+  public BulkRegisterResult registerStudents(List<StudentDetail> studentDetailList) {
+    BulkRegisterResult result = new BulkRegisterResult();
+    List<Integer> validIndexList = new ArrayList<>(studentDetailList.size());
+    for (int i = 0; i < studentDetailList.size(); i++) {
+      String errorMessage = validate(studentDetailList.get(i));
+      if (errorMessage == null) {
+        validIndexList.add(i);
+      } else {
+        result.getErrorList().add(new BulkRegisterError(i, errorMessage));
+      }
+    }
+
+    for (int from = 0; from < validIndexList.size(); from += chunkSize) {
+      List<Integer> chunkIndexList = validIndexList.subList(
+          from, Math.min(from + chunkSize, validIndexList.size()));
+      List<StudentDetail> chunk = chunkIndexList.stream()
+          .map(studentDetailList::get)
+          .toList();
+      try {
+        registerInTransaction(chunk, false);
+        result.setRegisteredCount(result.getRegisteredCount() + chunk.size());
+      } catch (RuntimeException ex) {
+        log.warn("受講生詳細の一括登録でチャンクの登録に失敗しました。1件ずつ登録し直します。件数: {}", chunk.size(), ex);
+        List<String> errorMessageList = registerOneByOne(chunk, false);
+        for (int i = 0; i < chunk.size(); i++) {
+          if (errorMessageList.get(i) == null) {
+            result.setRegisteredCount(result.getRegisteredCount() + 1);
+          } else {
+            result.getErrorList().add(new BulkRegisterError(chunkIndexList.get(i), errorMessageList.get(i)));
+          }
+        }
+      }
+    }
+    result.getErrorList().sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+    return result;
+  }
+
+  /**
+   * 1チャンク分の受講生詳細を1つのトランザクションで登録し、検索インデックスと検索結果キャッシュ、受講生数の集計に反映します。
+   * 例外を送出するのはトランザクションが失敗した場合のみです。コミット後の反映に失敗した場合は、登録済みのチャンクを
+   * 失敗として扱わないようにログに出力するだけにします（受講生数は定期的な集計で補正されます）。
+   *
+   * @param chunk　入力チェック済みの受講生詳細のチャンク
+   * @param restoreState　論理削除の状態・コース開始日・申込状況を受講生詳細の値のまま登録する場合はtrue（CSVの取り込み）
+   */
+  void registerInTransaction(List<StudentDetail> chunk, boolean restoreState) {
+    transactionTemplate.executeWithoutResult(status -> registerChunk(chunk, restoreState));
+    try {
+      chunk.forEach(studentDetail -> searchIndex.indexAfterCommit(studentDetail.getStudent()));
+    } catch (RuntimeException ex) {
+      log.warn("一括登録した受講生の検索インデックスへの反映に失敗しました。件数: {}", chunk.size(), ex);
+    }
+    try {
+      searchCache.invalidateAllAfterCommit();
+    } catch (RuntimeException ex) {
+      log.warn("一括登録後の検索結果キャッシュの破棄に失敗しました。", ex);
+    }
+    try {
+      EnrollmentDelta enrollmentDelta = new EnrollmentDelta();
+      chunk.stream()
+          .flatMap(studentDetail -> studentDetail.getCourseDetailList().stream())
+          .forEach(courseDetail -> enrollmentDelta.add(
+              courseDetail.getCourse().getCourseName(), courseDetail.getApplicationStatus().getApplicationStatus()));
+      enrollmentCounter.applyAfterCommit(enrollmentDelta);
+    } catch (RuntimeException ex) {
+      log.warn("一括登録した受講生数の集計への反映に失敗しました。次回の集計で補正します。", ex);
+    }
+  }
+
+  /**
+   * 登録に失敗したチャンクの受講生詳細を、1件ずつのトランザクションで登録し直します。
+   *
+   * @param chunk　入力チェック済みの受講生詳細のチャンク
+   * @param restoreState　論理削除の状態・コース開始日・申込状況を受講生詳細の値のまま登録する場合はtrue（CSVの取り込み）
+   * @return　チャンクと同じ順序のエラー内容（登録できた受講生詳細はnull）
+   */
+  List<String> registerOneByOne(List<StudentDetail> chunk, boolean restoreState) {
+    List<String> errorMessageList = new ArrayList<>(chunk.size());
+    for (StudentDetail studentDetail : chunk) {
+      try {
+        registerInTransaction(List.of(studentDetail), restoreState);
+        errorMessageList.add(null);
+      } catch (RuntimeException ex) {
+        log.debug("受講生詳細の登録に失敗しました。", ex);
+        errorMessageList.add(failureMessage(ex));
+      }
+    }
+    return errorMessageList;
+  }
+
+  private static String failureMessage(RuntimeException ex) {
+    String cause = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+    return (cause == null) ? "登録処理に失敗しました。" : "登録処理に失敗しました。（" + cause + "）";
+  }
+
+  /**
+   * 1チャンク分の受講生詳細を登録します。
+   * 受講生、コース情報、申込状況の順にバッチ実行し、採番されたIDを次のテーブルの紐づけに使用します。
+   * restoreStateがfalseの場合や値がない場合は、新規登録と同じくコース開始日を当日、申込状況を仮申込にします。
+   *
+   * @param chunk　受講生詳細のチャンク
+   * @param restoreState　論理削除の状態・コース開始日・申込状況を受講生詳細の値のまま登録する場合はtrue
+   */
+  void registerChunk(List<StudentDetail> chunk, boolean restoreState) {
+    chunk.forEach(studentDetail -> {
+      if (restoreState) {
+        batchRepository.importStudent(studentDetail.getStudent());
+      } else {
+        batchRepository.registerStudent(studentDetail.getStudent());
+      }
+    });
+    batchSession.flushStatements();
+
+    List<CourseDetail> courseDetailList = new ArrayList<>();
+    chunk.forEach(studentDetail -> studentDetail.getCourseDetailList().forEach(courseDetail -> {
+      Course course = courseDetail.getCourse();
+      course.setStudentId(studentDetail.getStudent().getId());
+      if (!restoreState || course.getCourseStartAt() == null) {
+        course.setCourseStartAt(LocalDate.now());
+      }
+      batchRepository.registerCourse(course);
+      courseDetailList.add(courseDetail);
+    }));
+    batchSession.flushStatements();
+
+    courseDetailList.forEach(courseDetail -> {
+      ApplicationStatus status = Objects.requireNonNullElse(
+          courseDetail.getApplicationStatus(), new ApplicationStatus());
+      if (!restoreState || status.getApplicationStatus() == null) {
+        status.setApplicationStatus("仮申込");
+      }
+      status.setCourseId(courseDetail.getCourse().getId());
+      courseDetail.setApplicationStatus(status);
+      batchRepository.registerStatus(status);
+    });
+    batchSession.flushStatements();
+  }
+
+  /**
+   * 受講生詳細の入力チェックを行います。
+   *
+   * @param studentDetail　受講生詳細
+   * @return　エラーメッセージ（問題がない場合はnull）
+   */
+  String validate(StudentDetail studentDetail) {
+    if (studentDetail == null || studentDetail.getStudent() == null) {
+      return "受講生情報が必要です。";
+    }
+    if (studentDetail.getCourseDetailList() == null || studentDetail.getCourseDetailList().stream()
+        .anyMatch(courseDetail -> courseDetail == null || courseDetail.getCourse() == null)) {
+      return "コース情報が必要です。";
+    }
+    Set<ConstraintViolation<StudentDetail>> violations = validator.validate(studentDetail);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+}
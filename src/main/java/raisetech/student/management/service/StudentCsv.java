@@ -0,0 +1,303 @@
+package raisetech.student.management.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import raisetech.student.management.controller.handler.exception.InvalidImportFileEx;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.StudentDetail;
+
+/**
+ * 受講生詳細のCSV形式（RFC 4180）です。
+ * 1行に受講生とコース詳細1件を出力し、コース詳細がない受講生はコースの列を空にして1行出力します。
+ * 読み込み時は、idが空でなく直前の行と同じ行を同じ受講生のコースとしてまとめます（エクスポートしたファイルをそのまま取り込めます）。
+ * 論理削除の状態、コース開始日・終了日、申込状況も読み込みます。idとcourseIdは行をまとめるためだけに使い、登録時に採番し直します。
+ */
+final class StudentCsv {
+
+  static final String HEADER = "id,name,kanaName,nickname,emailAddress,residence,age,gender,remark,wasDeleted,"
+      + "courseId,courseName,courseStartAt,courseEndAt,applicationStatus\r\n";
+
+  private StudentCsv() {
+  }
+
+  /**
+   * 受講生詳細をCSVの行に変換します。
+   *
+   * @param detail　受講生詳細
+   * @return　CSVの行（改行を含む）
+   */
+  static String toRows(StudentDetail detail) {
+    Student student = detail.getStudent();
+    String studentColumns = String.join(",",
+        value(student.getId()),
+        value(student.getName()),
+        value(student.getKanaName()),
+        value(student.getNickname()),
+        value(student.getEmailAddress()),
+        value(student.getResidence()),
+        value(student.getAge()),
+        value(student.getGender()),
+        value(student.getRemark()),
+        value(student.isWasDeleted()));
+    List<CourseDetail> courseDetailList = Objects.requireNonNullElse(detail.getCourseDetailList(), List.of());
+    if (courseDetailList.isEmpty()) {
+      return studentColumns + ",,,,,\r\n";
+    }
+    StringBuilder rows = new StringBuilder();
+    for (CourseDetail courseDetail : courseDetailList) {
+      Course course = courseDetail.getCourse();
+      ApplicationStatus status = courseDetail.getApplicationStatus();
+      rows.append(studentColumns).append(',')
+          .append(String.join(",",
+              value(course.getId()),
+              value(course.getCourseName()),
+              value(course.getCourseStartAt()),
+              value(course.getCourseEndAt()),
+              value(status == null ? null : status.getApplicationStatus())))
+          .append("\r\n");
+    }
+    return rows.toString();
+  }
+
+  /**
+   * 値をCSVの1項目に変換します。カンマ・ダブルクォート・改行を含む場合はダブルクォートで囲みます。
+   */
+  private static String value(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = value.toString();
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      return text;
+    }
+    return '"' + text.replace("\"", "\"\"") + '"';
+  }
+
+  /**
+   * CSVから読み込んだ受講生詳細です。
+   *
+   * @param lineNumber　受講生の先頭の行番号（変換に失敗した場合は失敗した行の行番号、1始まりでヘッダーを含む）
+   * @param detail　受講生詳細
+   * @param errorMessage　エラーメッセージ（問題がない場合はnull）
+   */
+  record Row(long lineNumber, StudentDetail detail, String errorMessage) {
+  }
+
+  /**
+   * CSVを1件ずつ受講生詳細に変換して読み込みます。ファイル全体をメモリ上に保持することはありません。
+   * 1行目はヘッダーとし、列は名前で対応づけます（不明な列は無視します）。
+   */
+  static final class DetailReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "emailAddress");
+
+    private static final List<String> APPLICATION_STATUSES = List.of("仮申込", "本申込", "受講中", "受講終了");
+
+    private final BufferedReader reader;
+
+    private Map<String, Integer> columnMap;
+
+    /** 次に読み込む文字の行番号です。 */
+    private long line = 1;
+
+    /** 直前に読み込んだレコードの先頭の行番号です。 */
+    private long recordLine;
+
+    private List<String> pendingRecord;
+
+    private long pendingLine;
+
+    DetailReader(InputStream inputStream) {
+      this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /**
+     * 次の受講生詳細を読み込みます。
+     *
+     * @return　受講生詳細（終端の場合はnull）
+     * @throws IOException　読み込みに失敗した場合
+     * @throws InvalidImportFileEx　ヘッダーがない場合や必要な列がない場合
+     */
+    Row next() throws IOException {
+      if (columnMap == null) {
+        readHeader();
+      }
+      List<String> record;
+      long lineNumber;
+      if (pendingRecord != null) {
+        record = pendingRecord;
+        lineNumber = pendingLine;
+        pendingRecord = null;
+      } else {
+        record = readNonBlankRecord();
+        lineNumber = recordLine;
+      }
+      if (record == null) {
+        return null;
+      }
+      Row row = toRow(lineNumber, record);
+      String id = column(record, "id");
+      if (id == null) {
+        return row;
+      }
+      List<String> nextRecord;
+      while ((nextRecord = readNonBlankRecord()) != null && id.equals(column(nextRecord, "id"))) {
+        Row courseRow = toRow(recordLine, nextRecord);
+        if (courseRow.errorMessage() != null) {
+          row = (row.errorMessage() == null) ? courseRow : row;
+        } else {
+          row.detail().getCourseDetailList().addAll(courseRow.detail().getCourseDetailList());
+        }
+      }
+      pendingRecord = nextRecord;
+      pendingLine = recordLine;
+      return row;
+    }
+
+    private void readHeader() throws IOException {
+      List<String> header = readNonBlankRecord();
+      if (header == null) {
+        throw new InvalidImportFileEx("CSVファイルが空です。");
+      }
+      header.set(0, header.get(0).replace("\uFEFF", ""));
+      columnMap = new HashMap<>();
+      for (int i = 0; i < header.size(); i++) {
+        columnMap.putIfAbsent(header.get(i).strip(), i);
+      }
+      if (!columnMap.keySet().containsAll(REQUIRED_COLUMNS)) {
+        throw new InvalidImportFileEx("CSVのヘッダーに" + String.join(", ", REQUIRED_COLUMNS) + "の列が必要です。");
+      }
+    }
+
+    private Row toRow(long lineNumber, List<String> record) {
+      StudentDetail detail = new StudentDetail();
+      if (record.size() != columnMap.size()) {
+        return new Row(lineNumber, detail, "列数がヘッダーと一致しません。");
+      }
+      Student student = new Student();
+      student.setName(column(record, "name"));
+      student.setKanaName(column(record, "kanaName"));
+      student.setNickname(column(record, "nickname"));
+      student.setEmailAddress(column(record, "emailAddress"));
+      student.setResidence(column(record, "residence"));
+      student.setGender(column(record, "gender"));
+      student.setRemark(column(record, "remark"));
+      detail.setStudent(student);
+      String age = column(record, "age");
+      if (age != null) {
+        try {
+          student.setAge(Integer.parseInt(age.strip()));
+        } catch (NumberFormatException ex) {
+          return new Row(lineNumber, detail, "student.age: 年齢は数値で入力してください。");
+        }
+      }
+      String wasDeleted = column(record, "wasDeleted");
+      if (wasDeleted != null) {
+        if (!wasDeleted.strip().equalsIgnoreCase("true") && !wasDeleted.strip().equalsIgnoreCase("false")) {
+          return new Row(lineNumber, detail, "student.wasDeleted: 論理削除はtrueまたはfalseで入力してください。");
+        }
+        student.setWasDeleted(Boolean.parseBoolean(wasDeleted.strip()));
+      }
+      String courseName = column(record, "courseName");
+      if (courseName != null) {
+        Course course = new Course();
+        course.setCourseName(courseName);
+        try {
+          course.setCourseStartAt(date(column(record, "courseStartAt")));
+          course.setCourseEndAt(date(column(record, "courseEndAt")));
+        } catch (DateTimeParseException ex) {
+          return new Row(lineNumber, detail, "course.courseStartAt, course.courseEndAt: 日付はyyyy-MM-dd形式で入力してください。");
+        }
+        ApplicationStatus status = null;
+        String applicationStatus = column(record, "applicationStatus");
+        if (applicationStatus != null) {
+          if (!APPLICATION_STATUSES.contains(applicationStatus.strip())) {
+            return new Row(lineNumber, detail,
+                "applicationStatus: 申込状況は" + String.join("・", APPLICATION_STATUSES) + "のいずれかを入力してください。");
+          }
+          status = new ApplicationStatus();
+          status.setApplicationStatus(applicationStatus.strip());
+        }
+        detail.getCourseDetailList().add(new CourseDetail(course, status));
+      }
+      return new Row(lineNumber, detail, null);
+    }
+
+    private static LocalDate date(String value) {
+      return (value == null) ? null : LocalDate.parse(value.strip());
+    }
+
+    /**
+     * 列の値を取得します。列がない場合や空の場合はnullを返します。
+     */
+    private String column(List<String> record, String name) {
+      Integer index = columnMap.get(name);
+      if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+        return null;
+      }
+      return record.get(index);
+    }
+
+    private List<String> readNonBlankRecord() throws IOException {
+      List<String> record;
+      do {
+        record = readRecord();
+      } while (record != null && record.size() == 1 && record.get(0).isEmpty());
+      return record;
+    }
+
+    /**
+     * 1レコードを読み込みます。ダブルクォートで囲まれた項目内のカンマ・改行は値として扱います。
+     */
+    private List<String> readRecord() throws IOException {
+      int c = reader.read();
+      if (c < 0) {
+        return null;
+      }
+      recordLine = line;
+      List<String> record = new ArrayList<>();
+      StringBuilder value = new StringBuilder();
+      boolean quoted = false;
+      while (c >= 0) {
+        if (quoted) {
+          if (c == '"') {
+            c = reader.read();
+            if (c != '"') {
+              quoted = false;
+              continue;
+            }
+          } else if (c == '\n') {
+            line++;
+          }
+          value.append((char) c);
+        } else if (c == '"' && value.isEmpty()) {
+          quoted = true;
+        } else if (c == ',') {
+          record.add(value.toString());
+          value.setLength(0);
+        } else if (c == '\n') {
+          line++;
+          break;
+        } else if (c != '\r') {
+          value.append((char) c);
+        }
+        c = reader.read();
+      }
+      record.add(value.toString());
+      return record;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package raisetech.student.management.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.management.domain.CacheStatistics;
+import raisetech.student.management.domain.StudentDetail;
+
+/**
+ * 受講生IDをキーに受講生詳細を保持するキャッシュです。
+ * 件数上限（W-TinyLFU）と有効期限で追い出しを行い、受講生の登録・更新時はコミット後に該当IDを無効化します。
+ */
+@Component
+public class StudentDetailCache {
+
+  private Cache<Integer, StudentDetail> cache;
+
+  private boolean enabled;
+
+  /** 無効化のたびに加算し、無効化をまたいでまとめて読み込んだ受講生詳細を保持しないようにします。 */
+  private AtomicLong generation = new AtomicLong();
+
+  private LongAdder invalidationCount = new LongAdder();
+
+  @Autowired
+  public StudentDetailCache(
+      @Value("${student.cache.detail.maximum-size:10000}") long maximumSize,
+      @Value("${student.cache.detail.ttl-seconds:300}") long ttlSeconds) {
+    this.enabled = maximumSize > 0;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(Math.max(maximumSize, 0))
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * キャッシュから受講生詳細を取得します。キャッシュにない場合は読み込み処理の結果を保持して返します。
+   * 読み込み結果がnull（受講生が存在しない）の場合は保持しません。
+   *
+   * @param id　受講生ID
+   * @param loader　受講生詳細の読み込み処理
+   * @return　受講生詳細
+   */
+  public StudentDetail get(Integer id, Function<Integer, StudentDetail> loader) {
+    if (!enabled || id == null) {
+      return loader.apply(id);
+    }
+    return cache.get(id, loader);
+  }
+
+  /**
+   * 複数の受講生IDの受講生詳細をキャッシュから取得します。
+   * キャッシュにない受講生IDのみをまとめて読み込み処理に渡し、その結果を保持します。
+   * 読み込み中に無効化された場合は、無効化前の状態を読み込んだ可能性があるため結果を保持しません。
+   *
+   * @param idList　受講生ID一覧
+   * @param loader　受講生ID一覧に紐づく受講生詳細の読み込み処理（存在しない受講生は含めない）
+   * @return　受講生IDと受講生詳細のマップ（存在しない受講生は含まない）
+   */
+  public Map<Integer, StudentDetail> getAll(
+      List<Integer> idList, Function<List<Integer>, Map<Integer, StudentDetail>> loader) {
+    if (!enabled) {
+      return loader.apply(idList);
+    }
+    Map<Integer, StudentDetail> presentMap = cache.getAllPresent(idList);
+    List<Integer> missingIdList = idList.stream()
+        .filter(id -> !presentMap.containsKey(id))
+        .distinct()
+        .toList();
+    if (missingIdList.isEmpty()) {
+      return presentMap;
+    }
+    long startGeneration = generation.get();
+    Map<Integer, StudentDetail> loadedMap = loader.apply(missingIdList);
+    if (generation.get() == startGeneration) {
+      cache.putAll(loadedMap);
+      if (generation.get() != startGeneration) {
+        cache.invalidateAll(loadedMap.keySet());
+      }
+    }
+    Map<Integer, StudentDetail> detailMap = new HashMap<>(presentMap);
+    detailMap.putAll(loadedMap);
+    return detailMap;
+  }
+
+  /**
+   * 受講生IDに紐づくキャッシュを無効化します。
+   * トランザクション中の場合はコミット後に無効化し、ロールバックされた場合は無効化しません。
+   *
+   * @param id　受講生ID
+   */
+  public void evictAfterCommit(Integer id) {
+    if (!enabled || id == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict(id);
+        }
+      });
+    } else {
+      evict(id);
+    }
+  }
+
+  /**
+   * キャッシュの統計情報を取得します。
+   *
+   * @return　統計情報
+   */
+  public CacheStatistics statistics() {
+    CacheStats stats = cache.stats();
+    return new CacheStatistics(
+        cache.estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.evictionCount(),
+        invalidationCount.sum());
+  }
+
+  private void evict(Integer id) {
+    generation.incrementAndGet();
+    cache.invalidate(id);
+    invalidationCount.increment();
+  }
+}
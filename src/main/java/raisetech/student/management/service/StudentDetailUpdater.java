@@ -0,0 +1,159 @@
+package raisetech.student.management.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * 受講生詳細の差分更新を行うコンポーネントです。
+ * 現在の受講生詳細と項目単位で比較し、値が変わる更新のみを実行します。
+ * コース名・申込状況の更新と申込状況の登録は、それぞれ複数件を1回のSQLにまとめて実行します。
+ * 通常のマッパーを使うため、呼び出し元のトランザクション内で他のマッパーの処理と組み合わせられます。
+ */
+@Component
+public class StudentDetailUpdater {
+
+  /** 比較する受講生の項目です。キーは変更項目として返す名前です。 */
+  private static final Map<String, Function<Student, Object>> STUDENT_FIELDS = new LinkedHashMap<>();
+
+  static {
+    STUDENT_FIELDS.put("name", Student::getName);
+    STUDENT_FIELDS.put("kanaName", Student::getKanaName);
+    STUDENT_FIELDS.put("nickname", Student::getNickname);
+    STUDENT_FIELDS.put("emailAddress", Student::getEmailAddress);
+    STUDENT_FIELDS.put("residence", Student::getResidence);
+    STUDENT_FIELDS.put("age", Student::getAge);
+    STUDENT_FIELDS.put("gender", Student::getGender);
+    STUDENT_FIELDS.put("remark", Student::getRemark);
+    STUDENT_FIELDS.put("wasDeleted", Student::isWasDeleted);
+  }
+
+  private MainRepository repository;
+
+  @Autowired
+  public StudentDetailUpdater(MainRepository repository) {
+    this.repository = repository;
+  }
+
+  /**
+   * 受講生詳細の差分更新を行います。
+   * 受講生に紐づかないコース情報と申込状況は更新しません。申込状況IDの指定がないコース情報は、
+   * 申込状況が未登録の場合のみ仮申込で登録します。
+   * いずれかの項目が変わる場合は、受講生詳細のバージョンを1回だけ加算します。
+   *
+   * @param studentDetail　受講生詳細
+   * @return　変更された項目（変更がない場合や受講生が存在しない場合は空）
+   */
+  public List<String> update(StudentDetail studentDetail) {
+    return update(studentDetail, new EnrollmentDelta());
+  }
+
+  /**
+   * 受講生詳細の差分更新を行い、コース名・申込状況の変更による受講生数の差分をenrollmentDeltaに記録します。
+   *
+   * @param studentDetail　受講生詳細
+   * @param enrollmentDelta　受講生数の差分の記録先
+   * @return　変更された項目（変更がない場合や受講生が存在しない場合は空）
+   */
+  public List<String> update(StudentDetail studentDetail, EnrollmentDelta enrollmentDelta) {
+    Student student = studentDetail.getStudent();
+    Student currentStudent = repository.fetchById(student.getId());
+    if (currentStudent == null) {
+      return Collections.emptyList();
+    }
+    Map<Integer, Course> currentCourseMap = repository.fetchCourseById(student.getId()).stream()
+        .collect(Collectors.toMap(Course::getId, Function.identity()));
+    Map<Integer, ApplicationStatus> currentStatusMap = currentCourseMap.isEmpty()
+        ? Collections.emptyMap()
+        : repository.fetchStatusByCourseIds(new ArrayList<>(currentCourseMap.keySet())).stream()
+            .collect(Collectors.toMap(ApplicationStatus::getId, Function.identity()));
+    Set<Integer> statusCourseIdSet = currentStatusMap.values().stream()
+        .map(ApplicationStatus::getCourseId)
+        .collect(Collectors.toSet());
+
+    List<String> changedFieldList = new ArrayList<>();
+    STUDENT_FIELDS.forEach((field, getter) -> {
+      if (!Objects.equals(getter.apply(student), getter.apply(currentStudent))) {
+        changedFieldList.add("student." + field);
+      }
+    });
+    boolean studentChanged = !changedFieldList.isEmpty();
+    List<Course> renamedCourseList = new ArrayList<>();
+    List<ApplicationStatus> registeredStatusList = new ArrayList<>();
+    List<ApplicationStatus> updatedStatusList = new ArrayList<>();
+
+    List<CourseDetail> courseDetailList = studentDetail.getCourseDetailList();
+    for (int i = 0; i < courseDetailList.size(); i++) {
+      CourseDetail courseDetail = courseDetailList.get(i);
+      Course course = courseDetail.getCourse();
+      Course currentCourse = (course.getId() == null) ? null : currentCourseMap.get(course.getId());
+      if (currentCourse == null) {
+        continue;
+      }
+      String path = "courseDetailList[" + i + "].";
+      String courseName = course.getCourseName();
+      if (!Objects.equals(courseName, currentCourse.getCourseName())) {
+        renamedCourseList.add(course);
+        changedFieldList.add(path + "course.courseName");
+        currentStatusMap.values().stream()
+            .filter(currentStatus -> Objects.equals(currentStatus.getCourseId(), course.getId()))
+            .forEach(currentStatus -> {
+              enrollmentDelta.remove(currentCourse.getCourseName(), currentStatus.getApplicationStatus());
+              enrollmentDelta.add(courseName, currentStatus.getApplicationStatus());
+            });
+      }
+
+      ApplicationStatus status = Objects.requireNonNullElse(
+          courseDetail.getApplicationStatus(), new ApplicationStatus());
+      status.setCourseId(course.getId());
+      courseDetail.setApplicationStatus(status);
+      if (status.getId() == null) {
+        if (statusCourseIdSet.add(course.getId())) {
+          status.setApplicationStatus("仮申込");
+          registeredStatusList.add(status);
+          changedFieldList.add(path + "applicationStatus");
+          enrollmentDelta.add(courseName, status.getApplicationStatus());
+        }
+        continue;
+      }
+      ApplicationStatus currentStatus = currentStatusMap.get(status.getId());
+      if (currentStatus != null && Objects.equals(currentStatus.getCourseId(), course.getId())
+          && !Objects.equals(status.getApplicationStatus(), currentStatus.getApplicationStatus())) {
+        updatedStatusList.add(status);
+        changedFieldList.add(path + "applicationStatus.applicationStatus");
+        enrollmentDelta.remove(courseName, currentStatus.getApplicationStatus());
+        enrollmentDelta.add(courseName, status.getApplicationStatus());
+      }
+    }
+
+    if (!renamedCourseList.isEmpty()) {
+      repository.updateCourseNames(renamedCourseList);
+    }
+    if (!registeredStatusList.isEmpty()) {
+      repository.registerStatuses(registeredStatusList);
+    }
+    if (!updatedStatusList.isEmpty()) {
+      repository.updateStatuses(updatedStatusList);
+    }
+    if (studentChanged) {
+      repository.updateStudent(student);
+    } else if (!changedFieldList.isEmpty()) {
+      repository.incrementVersion(student.getId());
+    }
+    return changedFieldList;
+  }
+}
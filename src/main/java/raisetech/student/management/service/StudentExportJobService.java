@@ -0,0 +1,263 @@
+package raisetech.student.management.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import raisetech.student.management.controller.handler.exception.ExportJobLimitEx;
+import raisetech.student.management.domain.ExportFormat;
+import raisetech.student.management.domain.ExportJobStatus;
+
+/**
+ * 受講生詳細のエクスポートをバックグラウンドのジョブとして実行するServiceです。
+ * ジョブは上限つきのワーカーで実行し、受講生詳細をチャンク単位でgzip圧縮したファイルに書き出します。
+ * 実行中・待機中のジョブが上限に達している場合は受け付けません。完了したジョブは一定間隔で確認し、保持期間を過ぎていれば削除します。
+ */
+@Service
+public class StudentExportJobService implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(StudentExportJobService.class);
+
+  /** ジョブの状態です。 */
+  enum State {
+    QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+  }
+
+  /** エクスポートジョブです。状態と進捗は、ワーカーと問い合わせ元のスレッドから同時に参照されます。 */
+  static class ExportJob {
+
+    final String id = UUID.randomUUID().toString();
+
+    final ExportFormat format;
+
+    final Path file;
+
+    final LocalDateTime createdAt = LocalDateTime.now();
+
+    final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+    final AtomicLong exportedCount = new AtomicLong();
+
+    volatile Long totalCount;
+
+    volatile LocalDateTime finishedAt;
+
+    volatile String errorMessage;
+
+    volatile Future<?> future;
+
+    ExportJob(ExportFormat format, Path directory) {
+      this.format = format;
+      this.file = directory.resolve(format.fileName(id));
+    }
+
+    ExportJobStatus status() {
+      return new ExportJobStatus(id, format, state.get().name(), exportedCount.get(), totalCount,
+          createdAt, finishedAt, errorMessage);
+    }
+  }
+
+  private StudentExportService exportService;
+
+  private ThreadPoolExecutor executor;
+
+  private Map<String, ExportJob> jobMap = new ConcurrentHashMap<>();
+
+  private Path directory;
+
+  private Duration retention;
+
+  private ScheduledExecutorService cleaner;
+
+  @Autowired
+  public StudentExportJobService(
+      StudentExportService exportService,
+      @Value("${student.export.job.workers:2}") int workers,
+      @Value("${student.export.job.max-queued:8}") int maxQueued,
+      @Value("${student.export.job.directory:${java.io.tmpdir}/student-exports}") String directory,
+      @Value("${student.export.job.retention-minutes:60}") long retentionMinutes,
+      @Value("${student.export.job.cleanup-seconds:60}") long cleanupSeconds) {
+    this.exportService = exportService;
+    this.executor = new ThreadPoolExecutor(
+        workers, workers, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(maxQueued, 1)),
+        Thread.ofPlatform().name("student-export-", 0).factory());
+    this.directory = Path.of(directory);
+    this.retention = Duration.ofMinutes(retentionMinutes);
+    this.cleaner = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofVirtual().name("student-export-cleaner").factory());
+    long interval = Math.max(cleanupSeconds, 1);
+    cleaner.scheduleWithFixedDelay(() -> {
+      try {
+        removeExpiredJobs();
+      } catch (RuntimeException ex) {
+        log.warn("Failed to remove expired export jobs", ex);
+      }
+    }, interval, interval, TimeUnit.SECONDS);
+  }
+
+  /**
+   * エクスポートジョブを受け付けます。
+   *
+   * @param format　ファイル形式
+   * @return　受け付けたジョブの状態
+   * @throws ExportJobLimitEx　実行中・待機中のジョブが上限に達している場合
+   */
+  public ExportJobStatus submit(ExportFormat format) {
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    ExportJob job = new ExportJob(format, directory);
+    jobMap.put(job.id, job);
+    try {
+      job.future = executor.submit(() -> run(job));
+    } catch (RejectedExecutionException ex) {
+      jobMap.remove(job.id);
+      throw new ExportJobLimitEx("エクスポートジョブの上限に達しています。");
+    }
+    return job.status();
+  }
+
+  /**
+   * エクスポートジョブの状態を取得します。
+   *
+   * @param jobId　ジョブID
+   * @return　ジョブの状態（ジョブが存在しない場合はnull）
+   */
+  public ExportJobStatus status(String jobId) {
+    ExportJob job = jobMap.get(jobId);
+    return (job == null) ? null : job.status();
+  }
+
+  /**
+   * 完了したエクスポートジョブのファイルを取得します。
+   *
+   * @param jobId　ジョブID
+   * @return　エクスポートファイル（ジョブが存在しない場合や完了していない場合はnull）
+   */
+  public Path exportFile(String jobId) {
+    ExportJob job = jobMap.get(jobId);
+    if (job == null || job.state.get() != State.COMPLETED) {
+      return null;
+    }
+    return job.file;
+  }
+
+  /**
+   * エクスポートジョブを取り消します。
+   * 待機中のジョブは実行せず、実行中のジョブは次のチャンクの書き出し後に中断します。
+   * 完了したジョブはファイルを削除します。
+   *
+   * @param jobId　ジョブID
+   * @return　取り消した場合はtrue（ジョブが存在しない場合はfalse）
+   */
+  public boolean cancel(String jobId) {
+    ExportJob job = jobMap.remove(jobId);
+    if (job == null) {
+      return false;
+    }
+    if (job.state.compareAndSet(State.QUEUED, State.CANCELLED)) {
+      if (job.future instanceof Runnable task) {
+        executor.remove(task);
+      }
+      job.finishedAt = LocalDateTime.now();
+    } else if (job.state.compareAndSet(State.RUNNING, State.CANCELLED)) {
+      job.finishedAt = LocalDateTime.now();
+    } else {
+      deleteQuietly(job.file);
+    }
+    return true;
+  }
+
+  /**
+   * エクスポートジョブを実行します。書き出し中のファイルは、完了後に正式なファイル名に置き換えます。
+   *
+   * @param job　エクスポートジョブ
+   */
+  void run(ExportJob job) {
+    if (!job.state.compareAndSet(State.QUEUED, State.RUNNING)) {
+      return;
+    }
+    Path partFile = job.file.resolveSibling(job.file.getFileName() + ".part");
+    try {
+      job.totalCount = exportService.countStudents();
+      try (OutputStream outputStream = new GZIPOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(partFile)), 64 * 1024)) {
+        exportService.exportStudents(outputStream, job.format, exportedCount -> {
+          job.exportedCount.set(exportedCount);
+          return job.state.get() == State.RUNNING;
+        });
+      }
+      Files.move(partFile, job.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      if (!job.state.compareAndSet(State.RUNNING, State.COMPLETED)) {
+        deleteQuietly(job.file);
+      }
+    } catch (CancellationException ex) {
+      log.info("Export job {} was cancelled after {} students", job.id, job.exportedCount.get());
+    } catch (Exception ex) {
+      log.error("Export job {} failed", job.id, ex);
+      job.errorMessage = "エクスポート処理に失敗しました。";
+      job.state.set(State.FAILED);
+    } finally {
+      deleteQuietly(partFile);
+      if (job.finishedAt == null) {
+        job.finishedAt = LocalDateTime.now();
+      }
+    }
+  }
+
+  /**
+   * 保持期間を過ぎた完了済みのジョブとファイルを削除します。
+   */
+  void removeExpiredJobs() {
+    LocalDateTime expiredAt = LocalDateTime.now().minus(retention);
+    jobMap.values().removeIf(job -> {
+      if (job.finishedAt == null || job.finishedAt.isAfter(expiredAt)) {
+        return false;
+      }
+      deleteQuietly(job.file);
+      return true;
+    });
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ex) {
+      log.warn("Failed to delete export file {}", file, ex);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    jobMap.values().forEach(job -> job.state.compareAndSet(State.RUNNING, State.CANCELLED));
+    cleaner.shutdownNow();
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,141 @@
+package raisetech.student.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.LongPredicate;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.management.controller.converter.MainConverter;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.ExportFormat;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * 受講生詳細のエクスポートを行うServiceです。
+ * 受講生をカーソルで読み出し、一定件数ごとにコース情報と申込状況を取得して、NDJSON形式またはCSV形式で書き出します。
+ */
+@Service
+public class StudentExportService {
+
+  private static final byte[] LINE_SEPARATOR = {'\n'};
+
+  private MainRepository repository;
+
+  private MainConverter converter;
+
+  private ObjectMapper objectMapper;
+
+  private int chunkSize;
+
+  @Autowired
+  public StudentExportService(
+      MainRepository repository,
+      MainConverter converter,
+      ObjectMapper objectMapper,
+      @Value("${student.export.chunk-size:500}") int chunkSize) {
+    this.repository = repository;
+    this.converter = converter;
+    this.objectMapper = objectMapper;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 全受講生の受講生詳細をNDJSON形式で出力先に書き出します。
+   * メモリ上に保持するのは1チャンク分の受講生詳細のみです。
+   *
+   * @param outputStream　出力先
+   * @return　書き出した件数
+   * @throws IOException　書き出しに失敗した場合
+   */
+  @Transactional(readOnly = true)
+  public long exportStudents(OutputStream outputStream) throws IOException {
+    return exportStudents(outputStream, ExportFormat.NDJSON, exportedCount -> true);
+  }
+
+  /**
+   * 全受講生の受講生詳細を指定した形式で出力先に書き出します。
+   * チャンクを書き出すたびに書き出し済みの件数を通知し、通知先がfalseを返した場合は中断します。
+   *
+   * @param outputStream　出力先
+   * @param format　出力形式
+   * @param onChunk　書き出し済みの件数の通知先（続行する場合はtrueを返す）
+   * @return　書き出した件数
+   * @throws IOException　書き出しに失敗した場合
+   * @throws CancellationException　通知先の指定で中断した場合
+   */
+  @Transactional(readOnly = true)
+  public long exportStudents(OutputStream outputStream, ExportFormat format, LongPredicate onChunk)
+      throws IOException {
+    if (format == ExportFormat.CSV) {
+      outputStream.write(StudentCsv.HEADER.getBytes(StandardCharsets.UTF_8));
+    }
+    long count = 0;
+    List<Student> chunk = new ArrayList<>(chunkSize);
+    try (Cursor<Student> cursor = repository.streamAllStudents()) {
+      for (Student student : cursor) {
+        chunk.add(student);
+        if (chunk.size() >= chunkSize) {
+          count += writeChunk(chunk, outputStream, format);
+          chunk.clear();
+          if (!onChunk.test(count)) {
+            throw new CancellationException("export cancelled");
+          }
+        }
+      }
+      if (!chunk.isEmpty()) {
+        count += writeChunk(chunk, outputStream, format);
+        onChunk.test(count);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * エクスポート対象の受講生数を取得します。
+   *
+   * @return　受講生数
+   */
+  public long countStudents() {
+    return repository.countStudents();
+  }
+
+  /**
+   * チャンク内の受講生に紐づくコース情報と申込状況をまとめて取得し、受講生詳細を書き出します。
+   *
+   * @param chunk　受講生のチャンク
+   * @param outputStream　出力先
+   * @param format　出力形式
+   * @return　書き出した件数
+   * @throws IOException　書き出しに失敗した場合
+   */
+  int writeChunk(List<Student> chunk, OutputStream outputStream, ExportFormat format) throws IOException {
+    List<Integer> studentIdList = chunk.stream()
+        .map(student -> student.getId())
+        .toList();
+    List<Course> courseList = repository.searchCoursesByStudentId(studentIdList);
+    List<ApplicationStatus> statusList = repository.searchStatusByStudentId(studentIdList);
+
+    List<StudentDetail> detailList = converter.convertDetails(chunk, courseList, statusList);
+    for (StudentDetail detail : detailList) {
+      if (format == ExportFormat.CSV) {
+        outputStream.write(StudentCsv.toRows(detail).getBytes(StandardCharsets.UTF_8));
+      } else {
+        outputStream.write(objectMapper.writeValueAsBytes(detail));
+        outputStream.write(LINE_SEPARATOR);
+      }
+    }
+    outputStream.flush();
+    return detailList.size();
+  }
+}
@@ -0,0 +1,191 @@
+package raisetech.student.management.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentImportError;
+import raisetech.student.management.domain.StudentImportResult;
+import raisetech.student.management.service.StudentCsv.Row;
+
+/**
+ * 受講生詳細をCSVファイルから取り込むServiceです。
+ * 読み込み・入力チェック・登録の3段階をパイプラインで実行します。
+ * 読み込んだ行はチャンク単位で入力チェック用のスレッドに渡して並列にチェックし、登録は呼び出し元のスレッドでチャンク単位のトランザクションで行います。
+ * 段階の間は上限つきのキューでつなぎ、登録が追いつかない場合は読み込みを止めます（アップロード全体をメモリ上に保持しません）。
+ */
+@Service
+public class StudentImportService implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(StudentImportService.class);
+
+  /** 読み込みの終端を表す目印です。 */
+  private static final CompletableFuture<List<Row>> END = CompletableFuture.completedFuture(List.of());
+
+  private StudentBulkService bulkService;
+
+  private ExecutorService validationExecutor;
+
+  private int chunkSize;
+
+  private int queueCapacity;
+
+  @Autowired
+  public StudentImportService(
+      StudentBulkService bulkService,
+      @Value("${student.import.chunk-size:1000}") int chunkSize,
+      @Value("${student.import.validation-threads:4}") int validationThreads,
+      @Value("${student.import.queue-capacity:4}") int queueCapacity) {
+    this.bulkService = bulkService;
+    this.chunkSize = Math.max(chunkSize, 1);
+    this.queueCapacity = Math.max(queueCapacity, 1);
+    this.validationExecutor = Executors.newFixedThreadPool(
+        Math.max(validationThreads, 1), Thread.ofPlatform().name("student-import-validation-", 0).daemon().factory());
+  }
+
+  /**
+   * CSVファイルから受講生詳細を取り込みます。
+   * 入力チェックに失敗した行は登録せず、その行番号とエラー内容を結果に含めます。
+   * 登録に失敗したチャンクはロールバックし、1行ずつのトランザクションで登録し直して、失敗した行だけを
+   * 原因のエラー内容とともに結果に含めます。
+   *
+   * @param inputStream　CSVファイル（UTF-8、1行目はヘッダー）
+   * @return　取り込み結果
+   * @throws IOException　読み込みに失敗した場合
+   * @throws raisetech.student.management.controller.handler.exception.InvalidImportFileEx　ヘッダーが不正な場合
+   */
+  public StudentImportResult importStudents(InputStream inputStream) throws IOException {
+    BlockingQueue<CompletableFuture<List<Row>>> queue = new ArrayBlockingQueue<>(queueCapacity);
+    Thread reader = Thread.ofVirtual()
+        .name("student-import-reader")
+        .start(() -> read(inputStream, queue));
+    StudentImportResult result = new StudentImportResult();
+    try {
+      List<Row> chunk = new ArrayList<>(chunkSize);
+      for (CompletableFuture<List<Row>> future = queue.take(); future != END; future = queue.take()) {
+        for (Row row : join(future)) {
+          if (row.errorMessage() != null) {
+            result.getErrorList().add(new StudentImportError(row.lineNumber(), row.errorMessage()));
+            continue;
+          }
+          chunk.add(row);
+          if (chunk.size() >= chunkSize) {
+            register(chunk, result);
+            chunk.clear();
+          }
+        }
+      }
+      if (!chunk.isEmpty()) {
+        register(chunk, result);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("import interrupted", ex);
+    } finally {
+      reader.interrupt();
+    }
+    result.getErrorList().sort(Comparator.comparingLong(StudentImportError::getLineNumber));
+    return result;
+  }
+
+  /**
+   * CSVファイルを読み込み、チャンクごとに入力チェックを開始してキューに渡します。
+   * キューが一杯の場合は空くまで読み込みを止めます。読み込みに失敗した場合は、失敗を表す要素をキューに渡します。
+   */
+  private void read(InputStream inputStream, BlockingQueue<CompletableFuture<List<Row>>> queue) {
+    try {
+      try {
+        StudentCsv.DetailReader reader = new StudentCsv.DetailReader(inputStream);
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        for (Row row = reader.next(); row != null; row = reader.next()) {
+          chunk.add(row);
+          if (chunk.size() >= chunkSize) {
+            queue.put(validate(chunk));
+            chunk = new ArrayList<>(chunkSize);
+          }
+        }
+        if (!chunk.isEmpty()) {
+          queue.put(validate(chunk));
+        }
+      } catch (IOException | RuntimeException ex) {
+        queue.put(CompletableFuture.failedFuture(ex));
+      }
+      queue.put(END);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * チャンク内の行の入力チェックを、入力チェック用のスレッドで開始します。
+   */
+  private CompletableFuture<List<Row>> validate(List<Row> chunk) {
+    return CompletableFuture.supplyAsync(() -> chunk.stream()
+        .map(row -> {
+          if (row.errorMessage() != null) {
+            return row;
+          }
+          String errorMessage = bulkService.validate(row.detail());
+          return (errorMessage == null) ? row : new Row(row.lineNumber(), row.detail(), errorMessage);
+        })
+        .toList(), validationExecutor);
+  }
+
+  private void register(List<Row> chunk, StudentImportResult result) {
+    List<StudentDetail> detailList = chunk.stream()
+        .map(Row::detail)
+        .toList();
+    try {
+      bulkService.registerInTransaction(detailList, true);
+      result.setRegisteredCount(result.getRegisteredCount() + detailList.size());
+    } catch (RuntimeException ex) {
+      log.warn("CSVの取り込みでチャンクの登録に失敗しました。1行ずつ登録し直します。行番号: {}〜{}",
+          chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), ex);
+      List<String> errorMessageList = bulkService.registerOneByOne(detailList, true);
+      for (int i = 0; i < chunk.size(); i++) {
+        if (errorMessageList.get(i) == null) {
+          result.setRegisteredCount(result.getRegisteredCount() + 1);
+        } else {
+          result.getErrorList().add(new StudentImportError(chunk.get(i).lineNumber(), errorMessageList.get(i)));
+        }
+      }
+    }
+  }
+
+  private static List<Row> join(CompletableFuture<List<Row>> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (ex.getCause() instanceof UncheckedIOException uncheckedIOException) {
+        throw uncheckedIOException.getCause();
+      }
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    validationExecutor.shutdownNow();
+  }
+}
@@ -0,0 +1,157 @@
+package raisetech.student.management.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.management.domain.CacheStatistics;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentPage;
+
+/**
+ * 検索条件をキーに、検索結果の受講生ID一覧を保持するキャッシュです。
+ * 受講生詳細そのものは保持せず、ヒットした場合は受講生ID一覧から受講生詳細を組み立てます（受講生詳細キャッシュを使用）。
+ * 再検索間隔を過ぎたエントリは古い結果を返しつつ、仮想スレッドで1回だけ再検索します（stale-while-revalidate）。
+ * 受講生の登録・更新時は、コミット後に全エントリを無効化します。
+ */
+@Component
+public class StudentSearchCache {
+
+  private static final Logger log = LoggerFactory.getLogger(StudentSearchCache.class);
+
+  /** キャッシュのエントリです。readAtは読み込み時刻（System.nanoTime）です。 */
+  private record Entry(List<Integer> idList, Integer nextCursor, long readAt, AtomicBoolean refreshing) {
+  }
+
+  private Cache<Object, Entry> cache;
+
+  private boolean enabled;
+
+  private long refreshNanos;
+
+  /** 無効化のたびに加算し、無効化をまたいだ検索結果を保持しないようにします。 */
+  private AtomicLong generation = new AtomicLong();
+
+  private LongAdder invalidationCount = new LongAdder();
+
+  @Autowired
+  public StudentSearchCache(
+      @Value("${student.cache.search.maximum-size:1000}") long maximumSize,
+      @Value("${student.cache.search.refresh-seconds:30}") long refreshSeconds,
+      @Value("${student.cache.search.ttl-seconds:300}") long ttlSeconds) {
+    this.enabled = maximumSize > 0;
+    this.refreshNanos = Duration.ofSeconds(refreshSeconds).toNanos();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(Math.max(maximumSize, 0))
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 検索結果を取得します。
+   * キャッシュにない場合は検索処理を実行して受講生ID一覧を保持し、検索結果をそのまま返します。
+   * キャッシュにある場合は受講生ID一覧から受講生詳細を組み立てて返します。
+   * トランザクション中の場合は、未コミットの内容を保持しないようにキャッシュを使用しません。
+   *
+   * @param key　正規化した検索条件
+   * @param loader　検索処理
+   * @param resolver　受講生ID一覧から受講生詳細一覧を組み立てる処理
+   * @return　検索結果
+   */
+  public StudentPage get(
+      Object key, Supplier<StudentPage> loader, Function<List<Integer>, List<StudentDetail>> resolver) {
+    if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return loader.get();
+    }
+    Entry entry = cache.getIfPresent(key);
+    if (entry == null) {
+      return load(key, loader);
+    }
+    if (System.nanoTime() - entry.readAt() >= refreshNanos && entry.refreshing().compareAndSet(false, true)) {
+      Thread.ofVirtual().name("student-search-refresh").start(() -> {
+        try {
+          load(key, loader);
+        } catch (RuntimeException ex) {
+          entry.refreshing().set(false);
+          log.warn("Failed to refresh cached student search {}", key, ex);
+        }
+      });
+    }
+    return new StudentPage(resolver.apply(entry.idList()), entry.nextCursor());
+  }
+
+  /**
+   * 全エントリを無効化します。
+   * トランザクション中の場合はコミット後に無効化し、ロールバックされた場合は無効化しません。
+   */
+  public void invalidateAllAfterCommit() {
+    if (!enabled) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidateAll();
+        }
+      });
+    } else {
+      invalidateAll();
+    }
+  }
+
+  /**
+   * キャッシュの統計情報を取得します。
+   *
+   * @return　統計情報
+   */
+  public CacheStatistics statistics() {
+    CacheStats stats = cache.stats();
+    return new CacheStatistics(
+        cache.estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.evictionCount(),
+        invalidationCount.sum());
+  }
+
+  /**
+   * 検索処理を実行し、受講生ID一覧を保持します。
+   * 検索中に無効化された場合は、無効化前の内容の可能性があるので保持しません。
+   */
+  private StudentPage load(Object key, Supplier<StudentPage> loader) {
+    long startGeneration = generation.get();
+    StudentPage page = loader.get();
+    List<Integer> idList = page.getStudentDetailList().stream()
+        .map(detail -> detail.getStudent().getId())
+        .toList();
+    if (generation.get() == startGeneration) {
+      cache.put(key, new Entry(idList, page.getNextCursor(), System.nanoTime(), new AtomicBoolean()));
+      if (generation.get() != startGeneration) {
+        cache.invalidate(key);
+      }
+    }
+    return page;
+  }
+
+  private void invalidateAll() {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+    invalidationCount.increment();
+  }
+}
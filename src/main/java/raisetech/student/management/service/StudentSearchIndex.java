@@ -0,0 +1,345 @@
+package raisetech.student.management.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * 受講生の氏名・メールアドレスの部分一致検索に使うトライグラム（3文字単位）の転置インデックスです。
+ * 起動後にバックグラウンドで全受講生を読み込み、読み込みが完了するまでは検索に使用しません（SQLで検索します）。
+ * 受講生の登録・更新はコミット後にインデックスへ反映します。
+ * インデックスはSQLの検索対象の受講生IDを絞り込むためだけに使い、最終的な一致判定はSQLのLIKE条件で行います。
+ * 候補は、MySQLの照合順序（utf8mb4_0900_ai_ci）のLIKE条件で一致する受講生を必ず含むようにします。
+ * この照合順序で印字可能なASCII文字（0x20〜0x7E）同士は大文字・小文字の違いだけを同一視するため、
+ * 検索文字列と値がともにASCII文字だけの場合は小文字にそろえた部分一致で判定できます。
+ * ASCII以外の文字を含む値（ß・アクセント・全角・かななど、照合順序で別の文字と一致しうる値）は判定せず常に候補に含め、
+ * ASCII以外の文字を含む検索文字列はインデックスを使わずSQLで検索します。
+ */
+@Component
+public class StudentSearchIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(StudentSearchIndex.class);
+
+  private static final int GRAM_SIZE = 3;
+
+  /**
+   * インデックス対象の項目です。
+   */
+  public enum Field {
+    NAME, EMAIL_ADDRESS
+  }
+
+  /** LIKE条件でワイルドカード・エスケープとして扱われる文字です。含む場合はインデックスで判定できません。 */
+  private static final String LIKE_METACHARACTERS = "%_\\";
+
+  private MainRepository repository;
+
+  private TransactionTemplate transactionTemplate;
+
+  private boolean enabled;
+
+  private int maxCandidates;
+
+  private volatile boolean ready;
+
+  private ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private Map<Integer, String[]> documents = new HashMap<>();
+
+  private Map<Field, Map<String, Set<Integer>>> postings = new HashMap<>();
+
+  /** ASCII以外の文字を含むため、インデックスで判定せず常に候補に含める受講生IDです。 */
+  private Map<Field, Set<Integer>> unindexedIds = new HashMap<>();
+
+  private Set<Integer> updatedWhileLoading = new HashSet<>();
+
+  @Autowired
+  public StudentSearchIndex(
+      MainRepository repository,
+      PlatformTransactionManager transactionManager,
+      @Value("${student.search.index.enabled:true}") boolean enabled,
+      @Value("${student.search.index.max-candidates:1000}") int maxCandidates) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.enabled = enabled;
+    this.maxCandidates = maxCandidates;
+    for (Field field : Field.values()) {
+      postings.put(field, new HashMap<>());
+      unindexedIds.put(field, new HashSet<>());
+    }
+  }
+
+  /**
+   * 起動完了後に、仮想スレッドで全受講生を読み込んでインデックスを構築します。
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (enabled) {
+      Thread.ofVirtual().name("student-search-index").start(this::build);
+    }
+  }
+
+  /**
+   * 全受講生をカーソルで読み込み、インデックスを構築します。
+   * 読み込み中にコミットされた登録・更新は、読み込んだ行より新しいので上書きしません。
+   */
+  public void build() {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Cursor<Student> cursor = repository.streamAllStudents()) {
+          for (Student student : cursor) {
+            lock.writeLock().lock();
+            try {
+              if (!updatedWhileLoading.contains(student.getId())) {
+                put(student);
+              }
+            } finally {
+              lock.writeLock().unlock();
+            }
+          }
+        } catch (IOException ex) {
+          throw new IllegalStateException(ex);
+        }
+      });
+      lock.writeLock().lock();
+      try {
+        updatedWhileLoading.clear();
+        ready = true;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      log.info("受講生検索インデックスの構築が完了しました。件数: {}", documents.size());
+    } catch (RuntimeException ex) {
+      log.warn("受講生検索インデックスの構築に失敗しました。SQLによる検索を継続します。", ex);
+    }
+  }
+
+  /**
+   * 受講生をインデックスに反映します。トランザクション中の場合はコミット後に反映します。
+   *
+   * @param student　受講生
+   */
+  public void indexAfterCommit(Student student) {
+    if (!enabled || student == null || student.getId() == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          index(student);
+        }
+      });
+    } else {
+      index(student);
+    }
+  }
+
+  /**
+   * 受講生をインデックスに反映します。
+   *
+   * @param student　受講生
+   */
+  public void index(Student student) {
+    lock.writeLock().lock();
+    try {
+      if (!ready) {
+        updatedWhileLoading.add(student.getId());
+      }
+      put(student);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 氏名・メールアドレスの部分一致条件に該当する受講生IDの候補を返します。
+   * 候補には、ASCII以外の文字を含むためインデックスで判定できない受講生も含みます。
+   * 空の場合は、LIKE条件に一致する受講生がいないことを表すため、SQLを実行せずに結果を空にできます。
+   * インデックスで判定できない場合（構築中、条件なし、3文字未満の条件、ASCII以外の文字やLIKE条件のワイルドカードを含む条件、
+   * 候補が上限超過）はnullを返します。
+   *
+   * @param name　氏名の検索文字列
+   * @param emailAddress　メールアドレスの検索文字列
+   * @return　受講生IDの候補（ID順）、判定できない場合はnull
+   */
+  public List<Integer> candidateIds(String name, String emailAddress) {
+    if (!enabled || !ready) {
+      return null;
+    }
+    boolean hasName = name != null && !name.isEmpty();
+    boolean hasEmail = emailAddress != null && !emailAddress.isEmpty();
+    if (!hasName && !hasEmail) {
+      return null;
+    }
+    if ((hasName && !isIndexableQuery(name)) || (hasEmail && !isIndexableQuery(emailAddress))) {
+      return null;
+    }
+    String normalizedName = hasName ? normalize(name) : null;
+    String normalizedEmail = hasEmail ? normalize(emailAddress) : null;
+    if ((hasName && normalizedName.length() < GRAM_SIZE)
+        || (hasEmail && normalizedEmail.length() < GRAM_SIZE)) {
+      return null;
+    }
+
+    lock.readLock().lock();
+    try {
+      Set<Integer> candidates = null;
+      if (hasName) {
+        candidates = match(Field.NAME, normalizedName, null);
+      }
+      if (hasEmail) {
+        candidates = match(Field.EMAIL_ADDRESS, normalizedEmail, candidates);
+      }
+      if (candidates.size() > maxCandidates) {
+        return null;
+      }
+      List<Integer> idList = new ArrayList<>(candidates);
+      Collections.sort(idList);
+      return idList;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 項目の値に検索文字列を含む受講生IDと、インデックスで判定できない受講生IDを返します。
+   *
+   * @param field　項目
+   * @param query　正規化済みの検索文字列（3文字以上）
+   * @param within　絞り込み対象の受講生ID（nullの場合は全件）
+   * @return　受講生ID
+   */
+  Set<Integer> match(Field field, String query, Set<Integer> within) {
+    Set<Integer> result = new HashSet<>();
+    for (Integer id : unindexedIds.get(field)) {
+      if (within == null || within.contains(id)) {
+        result.add(id);
+      }
+    }
+
+    Map<String, Set<Integer>> fieldPostings = postings.get(field);
+    List<Set<Integer>> gramPostings = new ArrayList<>();
+    for (String gram : grams(query)) {
+      Set<Integer> posting = fieldPostings.get(gram);
+      if (posting == null) {
+        return result;
+      }
+      gramPostings.add(posting);
+    }
+    gramPostings.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+    Set<Integer> smallest = gramPostings.get(0);
+    for (Integer id : smallest) {
+      if (within != null && !within.contains(id)) {
+        continue;
+      }
+      String value = documents.get(id)[field.ordinal()];
+      if (value != null && value.contains(query)) {
+        result.add(id);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * インデックスの構築が完了しているかを返します。
+   *
+   * @return　構築済みの場合true
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  private void put(Student student) {
+    Integer id = student.getId();
+    String[] previous = documents.get(id);
+    if (previous != null) {
+      for (Field field : Field.values()) {
+        unindexedIds.get(field).remove(id);
+        for (String gram : grams(previous[field.ordinal()])) {
+          Set<Integer> posting = postings.get(field).get(gram);
+          if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+              postings.get(field).remove(gram);
+            }
+          }
+        }
+      }
+    }
+
+    String[] values = new String[Field.values().length];
+    putValue(id, Field.NAME, student.getName(), values);
+    putValue(id, Field.EMAIL_ADDRESS, student.getEmailAddress(), values);
+    documents.put(id, values);
+    for (Field field : Field.values()) {
+      for (String gram : grams(values[field.ordinal()])) {
+        postings.get(field).computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+      }
+    }
+  }
+
+  private void putValue(Integer id, Field field, String value, String[] values) {
+    if (value != null && !isAscii(value)) {
+      unindexedIds.get(field).add(id);
+      return;
+    }
+    values[field.ordinal()] = normalize(value);
+  }
+
+  private static Set<String> grams(String value) {
+    if (value == null || value.length() < GRAM_SIZE) {
+      return Collections.emptySet();
+    }
+    Set<String> gramSet = new HashSet<>();
+    for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+      gramSet.add(value.substring(i, i + GRAM_SIZE));
+    }
+    return gramSet;
+  }
+
+  /**
+   * インデックスで判定できる検索文字列かを返します。ASCII以外の文字やLIKE条件のワイルドカード・エスケープ文字を含む場合は判定できません。
+   */
+  private static boolean isIndexableQuery(String value) {
+    return isAscii(value) && value.chars().noneMatch(c -> LIKE_METACHARACTERS.indexOf(c) >= 0);
+  }
+
+  /**
+   * 印字可能なASCII文字（0x20〜0x7E）だけで構成されているかを返します。
+   */
+  private static boolean isAscii(String value) {
+    return value.chars().allMatch(c -> c >= 0x20 && c <= 0x7E);
+  }
+
+  /**
+   * 比較用に正規化します。印字可能なASCII文字だけで構成された文字列を対象とし、小文字にそろえます。
+   */
+  static String normalize(String value) {
+    return (value == null) ? null : value.toLowerCase(Locale.ROOT);
+  }
+}
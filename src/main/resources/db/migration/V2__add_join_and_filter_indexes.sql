@@ -0,0 +1,9 @@
+-- 受講生IDでコース情報を取得する結合キー（fetchCourseById, searchCoursesByStudentId, searchStatusByStudentId）
+CREATE INDEX idx_student_courses_student_id ON student_courses (student_id);
+
+-- コースIDで申込状況を取得する結合キー（fetchStatusByCourseIds, searchStatusByStudentId）
+CREATE INDEX idx_application_status_course_id ON application_status (course_id);
+
+-- 受講生の絞り込み条件
+CREATE INDEX idx_students_email_address ON students (email_address);
+CREATE INDEX idx_students_was_deleted ON students (was_deleted);
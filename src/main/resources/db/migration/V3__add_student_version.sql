@@ -0,0 +1,2 @@
+-- 受講生詳細（受講生・コース情報・申込状況）の更新ごとに加算するバージョン。GET /students/{id} のETagに使用する
+ALTER TABLE students ADD COLUMN version INT NOT NULL DEFAULT 0;
@@ -5,33 +5,69 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.method.HandlerMethod;
+import raisetech.student.management.config.JacksonConfig;
+import raisetech.student.management.controller.limiter.EndpointBulkheadInterceptor;
+import raisetech.student.management.controller.handler.exception.ConcurrencyLimitEx;
+import raisetech.student.management.controller.handler.exception.ExportJobLimitEx;
+import raisetech.student.management.controller.handler.exception.InvalidImportFileEx;
 import raisetech.student.management.data.ApplicationStatus;
 import raisetech.student.management.data.Course;
 import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.BulkRegisterError;
+import raisetech.student.management.domain.BulkRegisterResult;
 import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.ExportFormat;
+import raisetech.student.management.domain.ExportJobStatus;
+import raisetech.student.management.domain.StudentBatchGetResult;
 import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentFields;
+import raisetech.student.management.domain.StudentImportError;
+import raisetech.student.management.domain.StudentImportResult;
+import raisetech.student.management.domain.StudentPage;
+import raisetech.student.management.domain.StudentPatch;
+import raisetech.student.management.domain.StudentUpdateResult;
 import raisetech.student.management.service.MainService;
+import raisetech.student.management.service.StudentBulkService;
+import raisetech.student.management.service.StudentExportJobService;
+import raisetech.student.management.service.StudentExportService;
+import raisetech.student.management.service.StudentImportService;
 
 @SuppressWarnings("removal")
 @WebMvcTest(MainController.class)
+@Import(JacksonConfig.class)
 class MainControllerTest {
 
   @Autowired
@@ -43,6 +79,21 @@ class MainControllerTest {
   @MockBean
   private MainService service;
 
+  @MockBean
+  private StudentExportService exportService;
+
+  @MockBean
+  private StudentBulkService bulkService;
+
+  @MockBean
+  private StudentImportService importService;
+
+  @MockBean
+  private StudentExportJobService exportJobService;
+
+  @Autowired
+  private EndpointBulkheadInterceptor bulkheadInterceptor;
+
   private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
   /**
@@ -55,8 +106,8 @@ class MainControllerTest {
     mockMvc.perform(MockMvcRequestBuilders.get("/students"))
         .andExpect(status().isOk());
 
-    verify(service, times(1)).searchStudentList(
-        null, null, null, null, null);
+    verify(service, times(1)).searchStudentPage(
+        null, null, null, null, null, null, 100);
   }
 
   /**
@@ -64,14 +115,161 @@ class MainControllerTest {
    */
   @Test
   void 受講生詳細の一覧検索が内部エラー発生すること() throws Exception {
-    when(service.searchStudentList(null, null, null, null, null))
+    when(service.searchStudentPage(null, null, null, null, null, null, 100))
         .thenThrow(new RuntimeException("内部サーバー エラーが発生しました。"));
 
     mockMvc.perform(MockMvcRequestBuilders.get("/students"))
         .andExpect(status().isInternalServerError());
 
-    verify(service, times(1)).searchStudentList(
-        null, null, null, null, null);
+    verify(service, times(1)).searchStudentPage(
+        null, null, null, null, null, null, 100);
+  }
+
+  /**
+   * /students?after&limit 200 test
+   */
+  @Test
+  void 受講生詳細の一覧検索でカーソルと件数を指定した時_次ページのカーソルが返ってくること() throws Exception {
+    StudentPage expectedPage = new StudentPage(List.of(new StudentDetail()), 20);
+    when(service.searchStudentPage(null, null, null, null, null, 10, 5))
+        .thenReturn(expectedPage);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/students?after=10&limit=5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.studentDetailList").isArray())
+        .andExpect(jsonPath("$.nextCursor").value(20));
+
+    verify(service, times(1)).searchStudentPage(
+        null, null, null, null, null, 10, 5);
+  }
+
+  /**
+   * /students?limit 400 test
+   */
+  @Test
+  void 受講生詳細の一覧検索で取得件数が上限を超えた時_400エラーが発生すること() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/students?limit=1001"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validationErrors").exists());
+
+    verify(service, times(0)).searchStudentPage(
+        Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+        Mockito.any(), Mockito.anyInt());
+  }
+
+  /**
+   * /students/export 200 test
+   */
+  @Test
+  void 受講生詳細のエクスポートがNDJSON形式で実行できること() throws Exception {
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/students/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"));
+
+    verify(exportService, times(1)).exportStudents(Mockito.any(OutputStream.class));
+  }
+
+  @Test
+  void エクスポートジョブを登録した時_202とジョブの状態が返ってくること() throws Exception {
+    when(exportJobService.submit(ExportFormat.NDJSON)).thenReturn(new ExportJobStatus(
+        "job-1", ExportFormat.NDJSON, "QUEUED", 0, null, LocalDateTime.now(), null, null));
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/students/exports").param("format", "ndjson"))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", "/students/exports/job-1"))
+        .andExpect(jsonPath("$.jobId").value("job-1"))
+        .andExpect(jsonPath("$.state").value("QUEUED"));
+  }
+
+  @Test
+  void 受講生ID検索の同時実行数が上限に達している時_503とRetryAfterが返ってくること() throws Exception {
+    HandlerMethod handler = new HandlerMethod(this, getClass().getDeclaredMethod("getStudent"));
+    List<MockHttpServletRequest> runningList = new ArrayList<>();
+    try {
+      // 上限に達するまで実行枠を取得しておく
+      while (true) {
+        MockHttpServletRequest running = new MockHttpServletRequest();
+        try {
+          bulkheadInterceptor.preHandle(running, new MockHttpServletResponse(), handler);
+        } catch (ConcurrencyLimitEx ex) {
+          break;
+        }
+        runningList.add(running);
+      }
+
+      mockMvc.perform(MockMvcRequestBuilders.get("/students/1"))
+          .andExpect(status().isServiceUnavailable())
+          .andExpect(header().string("Retry-After", "1"))
+          .andExpect(jsonPath("$.errorResponse").value("混み合っているため処理できませんでした。時間をおいて再度お試しください。"));
+      verify(service, times(0)).searchStudentId(1);
+    } finally {
+      runningList.forEach(running ->
+          bulkheadInterceptor.afterCompletion(running, new MockHttpServletResponse(), handler, null));
+    }
+  }
+
+  /** 同時実行数制限のキーに使うハンドラーメソッド名をMainControllerに合わせるためのメソッドです。 */
+  private void getStudent() {
+  }
+
+  @Test
+  void エクスポートジョブの上限に達している時_503が返ってくること() throws Exception {
+    when(exportJobService.submit(ExportFormat.CSV))
+        .thenThrow(new ExportJobLimitEx("エクスポートジョブの上限に達しています。"));
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/students/exports"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(jsonPath("$.errorResponse").value("エクスポートジョブの上限に達しています。"));
+  }
+
+  @Test
+  void 完了したエクスポートジョブのファイルがダウンロードできること(@TempDir Path tempDir) throws Exception {
+    Path file = tempDir.resolve("job-1.csv.gz");
+    Files.write(file, new byte[] {1, 2, 3, 4});
+    when(exportJobService.status("job-1")).thenReturn(new ExportJobStatus(
+        "job-1", ExportFormat.CSV, "COMPLETED", 5, 5L, LocalDateTime.now(), LocalDateTime.now(), null));
+    when(exportJobService.exportFile("job-1")).thenReturn(file);
+
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/students/exports/{jobId}/file", "job-1"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/gzip"))
+        .andExpect(header().string("Content-Disposition", "attachment; filename=\"job-1.csv.gz\""))
+        .andExpect(content().bytes(new byte[] {1, 2, 3, 4}));
+  }
+
+  @Test
+  void 完了したエクスポートジョブのファイルが削除されていた時_404が返ってくること(@TempDir Path tempDir) throws Exception {
+    when(exportJobService.status("job-1")).thenReturn(new ExportJobStatus(
+        "job-1", ExportFormat.CSV, "COMPLETED", 5, 5L, LocalDateTime.now(), LocalDateTime.now(), null));
+    when(exportJobService.exportFile("job-1")).thenReturn(tempDir.resolve("job-1.csv.gz"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/students/exports/{jobId}/file", "job-1"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void 完了していないエクスポートジョブのファイルを取得した時_409が返ってくること() throws Exception {
+    when(exportJobService.status("job-1")).thenReturn(new ExportJobStatus(
+        "job-1", ExportFormat.CSV, "RUNNING", 2, 5L, LocalDateTime.now(), null, null));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/students/exports/{jobId}/file", "job-1"))
+        .andExpect(status().isConflict());
+  }
+
+  @Test
+  void 存在しないエクスポートジョブを取り消した時_404が返ってくること() throws Exception {
+    when(exportJobService.cancel("unknown")).thenReturn(false);
+
+    mockMvc.perform(MockMvcRequestBuilders.delete("/students/exports/{jobId}", "unknown"))
+        .andExpect(status().isNotFound());
   }
 
   /**
@@ -124,6 +322,55 @@ class MainControllerTest {
 
   }
 
+  /**
+   * student/{id} 200 with ETag
+   */
+  @Test
+  void 受講生詳細の検索をIDで検索する時_受講生詳細のバージョンがETagとして返ってくること() throws Exception {
+    Student student = new Student();
+    student.setId(1);
+    student.setVersion(3);
+    when(service.searchStudentId(1)).thenReturn(new StudentDetail(student, List.of()));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/students/{id}", "1"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"1-3\""))
+        .andExpect(jsonPath("$.student.id").value(1));
+  }
+
+  /**
+   * student/{id} 304 when If-None-Match matches
+   */
+  @Test
+  void 受講生詳細の検索をIDで検索する時_ETagが一致する場合は304が返ってくること() throws Exception {
+    Student student = new Student();
+    student.setId(1);
+    student.setVersion(3);
+    when(service.searchStudentId(1)).thenReturn(new StudentDetail(student, List.of()));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/students/{id}", "1")
+            .header("If-None-Match", "\"1-3\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", "\"1-3\""))
+        .andExpect(content().string(""));
+  }
+
+  /**
+   * student/{id} 200 when the student has been updated since the ETag
+   */
+  @Test
+  void 受講生詳細の検索をIDで検索する時_更新後は古いETagを指定しても受講生詳細が返ってくること() throws Exception {
+    Student student = new Student();
+    student.setId(1);
+    student.setVersion(4);
+    when(service.searchStudentId(1)).thenReturn(new StudentDetail(student, List.of()));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/students/{id}", "1")
+            .header("If-None-Match", "\"1-3\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"1-4\""));
+  }
+
   /**
    * /student/{id} 500
    */
@@ -242,6 +489,133 @@ class MainControllerTest {
 
   }
 
+  /**
+   * /students/bulk 200 test returns per-item errors
+   */
+  @Test
+  void 受講生詳細を一括登録した時_一括登録結果が返ってくること() throws Exception {
+    Student student = new Student();
+    student.setEmailAddress("test@example.com");
+    student.setAge(20);
+    List<StudentDetail> studentDetailList = List.of(
+        new StudentDetail(student, List.of()), new StudentDetail());
+    String jsonBody = objectMapper.writeValueAsString(studentDetailList);
+
+    BulkRegisterResult expectedResult = new BulkRegisterResult(
+        1, new ArrayList<>(List.of(new BulkRegisterError(1, "受講生情報が必要です。"))));
+    when(bulkService.registerStudents(Mockito.anyList())).thenReturn(expectedResult);
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/students/bulk")
+            .contentType(MediaType.APPLICATION_JSON).content(jsonBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.registeredCount").value(1))
+        .andExpect(jsonPath("$.errorList[0].index").value(1));
+
+    verify(bulkService, times(1)).registerStudents(Mockito.anyList());
+  }
+
+  /**
+   * /students/import 200 test returns errors by line number
+   */
+  @Test
+  void 受講生詳細をCSVで取り込んだ時_失敗した行番号を含む取り込み結果が返ってくること() throws Exception {
+    StudentImportResult expectedResult = new StudentImportResult(
+        1, new ArrayList<>(List.of(new StudentImportError(3, "列数がヘッダーと一致しません。"))));
+    when(importService.importStudents(Mockito.any(InputStream.class))).thenReturn(expectedResult);
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/students/import")
+            .contentType("text/csv").content("name,emailAddress\n山田太郎,taro@example.com\n,\n"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.registeredCount").value(1))
+        .andExpect(jsonPath("$.errorList[0].lineNumber").value(3))
+        .andExpect(jsonPath("$.errorList[0].message").value("列数がヘッダーと一致しません。"));
+
+    verify(importService, times(1)).importStudents(Mockito.any(InputStream.class));
+  }
+
+  /**
+   * /students/import 400 test
+   */
+  @Test
+  void 受講生詳細のCSV取り込みでヘッダーが不正な時_400エラーが返ってくること() throws Exception {
+    when(importService.importStudents(Mockito.any(InputStream.class)))
+        .thenThrow(new InvalidImportFileEx("CSVのヘッダーにname, emailAddressの列が必要です。"));
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/students/import")
+            .contentType("text/csv").content("foo,bar\n"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errorResponse").value("CSVのヘッダーにname, emailAddressの列が必要です。"));
+  }
+
+  /**
+   * /students?fields 200 test returns only requested fields
+   */
+  @Test
+  void 受講生詳細の一覧検索で項目を指定した時_指定した項目のみ返ってくること() throws Exception {
+    Student student = new Student();
+    student.setId(1);
+    student.setName("山田太郎");
+    student.setEmailAddress("taro@example.com");
+    StudentPage expectedPage = new StudentPage(List.of(new StudentDetail(student, List.of())), null);
+    when(service.searchStudentPage(Mockito.isNull(), Mockito.isNull(), Mockito.isNull(), Mockito.isNull(),
+        Mockito.isNull(), Mockito.isNull(), Mockito.eq(100), Mockito.any(StudentFields.class)))
+        .thenReturn(expectedPage);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/students?fields=name,emailAddress"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.studentDetailList[0].student.id").value(1))
+        .andExpect(jsonPath("$.studentDetailList[0].student.name").value("山田太郎"))
+        .andExpect(jsonPath("$.studentDetailList[0].student.emailAddress").value("taro@example.com"))
+        .andExpect(jsonPath("$.studentDetailList[0].student.age").doesNotExist())
+        .andExpect(jsonPath("$.studentDetailList[0].student.remark").doesNotExist())
+        .andExpect(jsonPath("$.studentDetailList[0].courseDetailList").doesNotExist());
+  }
+
+  /**
+   * /students?fields 400 test unknown field
+   */
+  @Test
+  void 受講生詳細の一覧検索で存在しない項目を指定した時_400エラーが発生すること() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/students?fields=name,password"))
+        .andExpect(status().isBadRequest());
+
+    verify(service, times(0)).searchStudentPage(
+        Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+        Mockito.anyInt(), Mockito.any());
+  }
+
+  /**
+   * /students/batch-get 200 test returns details in request order and missing ids
+   */
+  @Test
+  void 受講生詳細を複数IDで検索した時_リクエスト順の受講生詳細と見つからなかったIDが返ってくること() throws Exception {
+    Student student = new Student();
+    student.setId(3);
+    StudentBatchGetResult expectedResult = new StudentBatchGetResult(
+        List.of(new StudentDetail(student, List.of())), List.of(99));
+    when(service.searchStudentsByIds(List.of(3, 99))).thenReturn(expectedResult);
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/students/batch-get")
+            .contentType(MediaType.APPLICATION_JSON).content("[3, 99]"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.studentDetailList[0].student.id").value(3))
+        .andExpect(jsonPath("$.missingIdList[0]").value(99));
+
+    verify(service, times(1)).searchStudentsByIds(List.of(3, 99));
+  }
+
+  /**
+   * /students/batch-get 400 test empty id list
+   */
+  @Test
+  void 受講生詳細を複数IDで検索した時_IDが指定されていない時に400エラーが発生すること() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/students/batch-get")
+            .contentType(MediaType.APPLICATION_JSON).content("[]"))
+        .andExpect(status().isBadRequest());
+
+    verify(service, times(0)).searchStudentsByIds(Mockito.anyList());
+  }
+
   /**
    * /updateStudent 200 response ok
    */
@@ -266,11 +640,15 @@ class MainControllerTest {
 
 
     String jsonBody = objectMapper.writeValueAsString(expectedDetail);
+    when(service.updateStudent(Mockito.any(StudentDetail.class))).thenReturn(new StudentUpdateResult(
+        "更新処理が成功しました。", List.of("student.emailAddress", "courseDetailList[0].course.courseName")));
 
     mockMvc.perform(MockMvcRequestBuilders.put("/students/{id}", 999)
             .contentType(MediaType.APPLICATION_JSON).content(jsonBody))
         .andExpect(status().isOk())
-        .andExpect(content().string("更新処理が成功しました。"));
+        .andExpect(jsonPath("$.message").value("更新処理が成功しました。"))
+        .andExpect(jsonPath("$.changedFieldList[0]").value("student.emailAddress"))
+        .andExpect(jsonPath("$.changedFieldList[1]").value("courseDetailList[0].course.courseName"));
     verify(service, times(1))
         .updateStudent(Mockito.any(StudentDetail.class));
 
@@ -353,16 +731,16 @@ class MainControllerTest {
   @Test
   void 氏名で受講生詳細を検索した時一致する受講生が返されること() throws Exception {
     String expectedName = "Test";
-    List<StudentDetail> expectedDetails = List.of(new StudentDetail());
+    StudentPage expectedPage = new StudentPage(List.of(new StudentDetail()), null);
 
-    when(service.searchStudentList(expectedName, null, null,null,null))
-        .thenReturn(expectedDetails);
+    when(service.searchStudentPage(expectedName, null, null,null,null, null, 100))
+        .thenReturn(expectedPage);
 
     mockMvc.perform(MockMvcRequestBuilders.get("/students?name=Test"))
         .andExpect(status().isOk());
 
     verify(service, times(1))
-        .searchStudentList(expectedName, null, null, null, null);
+        .searchStudentPage(expectedName, null, null, null, null, null, 100);
 
   }
 
@@ -373,17 +751,58 @@ class MainControllerTest {
     String gender = "Male";
     String courseName = "Show";
     String applicationStatus = "Expelled";
-    List<StudentDetail> expectedDetails = List.of(new StudentDetail());
+    StudentPage expectedPage = new StudentPage(List.of(new StudentDetail()), null);
 
-    when(service.searchStudentList(name, emailAddress, gender, courseName, applicationStatus))
-        .thenReturn(expectedDetails);
+    when(service.searchStudentPage(name, emailAddress, gender, courseName, applicationStatus, null, 100))
+        .thenReturn(expectedPage);
 
     mockMvc.perform(MockMvcRequestBuilders.get(
         "/students?name=Tommy&emailAddress=bommytums@example.com&gender=Male&courseName=Show&applicationStatus=Expelled"))
         .andExpect(status().isOk());
 
     verify(service, times(1))
-        .searchStudentList(name, emailAddress, gender, courseName, applicationStatus);
+        .searchStudentPage(name, emailAddress, gender, courseName, applicationStatus, null, 100);
+
+  }
+
+  @Test
+  void 受講生を部分更新した時_指定した項目のみで更新され更新した項目が返ってくること() throws Exception {
+    when(service.patchStudent(Mockito.eq(1), Mockito.any(StudentPatch.class))).thenReturn(
+        new StudentUpdateResult("更新処理が成功しました。", List.of("student.residence", "student.remark")));
+
+    mockMvc.perform(MockMvcRequestBuilders.patch("/students/{id}", 1)
+            .contentType("application/merge-patch+json")
+            .content("{\"residence\": \"大阪\", \"remark\": null}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.message").value("更新処理が成功しました。"))
+        .andExpect(jsonPath("$.changedFieldList[0]").value("student.residence"));
+
+    verify(service, times(1)).patchStudent(Mockito.eq(1), Mockito.argThat(studentPatch ->
+        studentPatch.getFieldSet().equals(Set.of("residence", "remark"))
+            && "大阪".equals(studentPatch.getStudent().getResidence())
+            && studentPatch.getStudent().getRemark() == null));
+  }
+
+  @Test
+  void 受講生を部分更新した時_更新できない項目や不正な値を指定すると400が返ってくること() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.patch("/students/{id}", 1)
+            .contentType("application/merge-patch+json")
+            .content("{\"id\": 2, \"emailAddress\": \"invalid-address\", \"age\": null}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validationErrors.id").value("更新できない項目です。"))
+        .andExpect(jsonPath("$.validationErrors.emailAddress").value("有効なメールアドレスを入力してください。"))
+        .andExpect(jsonPath("$.validationErrors.age").value("nullは指定できません。"));
+
+    verify(service, times(0)).patchStudent(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  void 存在しない受講生を部分更新した時_404が返ってくること() throws Exception {
+    when(service.patchStudent(Mockito.eq(999), Mockito.any(StudentPatch.class))).thenReturn(null);
 
+    mockMvc.perform(MockMvcRequestBuilders.patch("/students/{id}", 999)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"residence\": \"大阪\"}"))
+        .andExpect(status().isNotFound());
   }
-}
\ No newline at end of file
+}
@@ -142,6 +142,55 @@ class MainConverterTest {
         );
   }
 
+  @Test
+  void コンバーターが同じコースの申込状況が複数ある時に先に現れた申込状況をマッピングすること() {
+    Student student = new Student();
+    student.setId(1);
+    Course course = new Course();
+    course.setId(10);
+    course.setStudentId(1);
+    ApplicationStatus firstStatus = new ApplicationStatus();
+    firstStatus.setId(100);
+    firstStatus.setCourseId(10);
+    firstStatus.setApplicationStatus("本申込");
+    ApplicationStatus secondStatus = new ApplicationStatus();
+    secondStatus.setId(101);
+    secondStatus.setCourseId(10);
+    secondStatus.setApplicationStatus("受講中");
+
+    List<StudentDetail> actual = sut.convertDetails(
+        List.of(student), List.of(course), List.of(firstStatus, secondStatus));
+
+    assertThat(actual.get(0).getCourseDetailList())
+        .extracting("applicationStatus.id", "applicationStatus.applicationStatus")
+        .containsExactly(tuple(100, "本申込"));
+  }
+
+  @Test
+  void コンバーターが複数の受講生の順序とコースの順序を保ってマッピングすること() {
+    Student studentA = new Student();
+    studentA.setId(2);
+    Student studentB = new Student();
+    studentB.setId(1);
+    Course courseA = new Course();
+    courseA.setId(3);
+    courseA.setStudentId(1);
+    Course courseB = new Course();
+    courseB.setId(1);
+    courseB.setStudentId(2);
+    Course courseC = new Course();
+    courseC.setId(2);
+    courseC.setStudentId(1);
+
+    List<StudentDetail> actual = sut.convertDetails(
+        List.of(studentA, studentB), List.of(courseA, courseB, courseC), List.of());
+
+    assertThat(actual).extracting("student.id").containsExactly(2, 1);
+    assertThat(actual.get(0).getCourseDetailList()).extracting("course.id").containsExactly(1);
+    assertThat(actual.get(1).getCourseDetailList()).extracting("course.id").containsExactly(3, 2);
+    assertThat(actual.get(1).getCourseDetailList()).extracting("applicationStatus").containsOnlyNulls();
+  }
+
 }
 
 
@@ -0,0 +1,90 @@
+package raisetech.student.management.controller.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class VirtualThreadRequestLimiterTest {
+
+  private VirtualThreadRequestLimiter sut = new VirtualThreadRequestLimiter(1, 50, new ObjectMapper());
+
+  @Test
+  void 同時実行数の上限に達している時_待機時間を超えたリクエストに503が返されること() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread running = holdPermit(entered, release);
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    sut.doFilter(new MockHttpServletRequest("GET", "/students/2"), response, new MockFilterChain());
+
+    assertEquals(503, response.getStatus());
+    assertEquals("1", response.getHeader("Retry-After"));
+    assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains("errorResponse"));
+    assertEquals(1, sut.activeRequests());
+    assertEquals(1, sut.rejectedCount());
+
+    release.countDown();
+    running.join();
+    assertEquals(0, sut.activeRequests());
+  }
+
+  @Test
+  void 受講生API以外のリクエスト_上限に達していても制限されないこと() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread running = holdPermit(entered, release);
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+    MockFilterChain filterChain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    sut.doFilter(new MockHttpServletRequest("GET", "/metrics/virtual-threads"), response, filterChain);
+
+    assertEquals(200, response.getStatus());
+    assertNotNull(filterChain.getRequest());
+    assertEquals(0, sut.rejectedCount());
+
+    release.countDown();
+    running.join();
+  }
+
+  @Test
+  void 非同期処理のリクエスト_非同期処理が完了するまで枠が保持されること() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students/export");
+    request.setAsyncSupported(true);
+
+    sut.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+    assertEquals(1, sut.activeRequests());
+    ((MockAsyncContext) request.getAsyncContext()).complete();
+    assertEquals(0, sut.activeRequests());
+  }
+
+  private Thread holdPermit(CountDownLatch entered, CountDownLatch release) {
+    return Thread.ofVirtual().start(() -> {
+      try {
+        sut.doFilter(new MockHttpServletRequest("GET", "/students/1"), new MockHttpServletResponse(),
+            (req, res) -> {
+              entered.countDown();
+              try {
+                release.await(5, TimeUnit.SECONDS);
+              } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+              }
+            });
+      } catch (Exception ex) {
+        throw new IllegalStateException(ex);
+      }
+    });
+  }
+}
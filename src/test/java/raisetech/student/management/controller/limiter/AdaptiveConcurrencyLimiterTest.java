@@ -0,0 +1,73 @@
+package raisetech.student.management.controller.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import raisetech.student.management.domain.ConcurrencyLimitStatistics;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void 上限に達している時_待たずに拒否されること() {
+    AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter("getStudentList", 2, 1, 10, 2.0, 0.5);
+
+    assertTrue(sut.tryAcquire());
+    assertTrue(sut.tryAcquire());
+    assertFalse(sut.tryAcquire());
+
+    ConcurrencyLimitStatistics actual = sut.statistics();
+    assertEquals(2, actual.getLimit());
+    assertEquals(2, actual.getInFlight());
+    assertEquals(2, actual.getAcceptedCount());
+    assertEquals(1, actual.getRejectedCount());
+  }
+
+  @Test
+  void 上限近くまで使われて応答時間が基準内の時_上限が1ずつ増えること() {
+    AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter("getStudent", 2, 1, 3, 2.0, 0.5);
+
+    for (int i = 0; i < 3; i++) {
+      sut.tryAcquire();
+      sut.tryAcquire();
+      sut.release(10 * MILLIS);
+      sut.release(10 * MILLIS);
+    }
+
+    assertEquals(3, sut.limit());
+  }
+
+  @Test
+  void 上限近くまで使われて応答時間が基準の許容倍率を超えた時_上限が下げられること() {
+    AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter("getStudentList", 4, 1, 10, 2.0, 0.5);
+    sut.tryAcquire();
+    sut.release(10 * MILLIS);
+
+    for (int i = 0; i < 4; i++) {
+      sut.tryAcquire();
+    }
+    sut.release(200 * MILLIS);
+    assertEquals(2, sut.limit());
+
+    sut.release(200 * MILLIS);
+    assertEquals(1, sut.limit());
+  }
+
+  @Test
+  void 上限まで使われていない時_応答時間がばらついても上限が下げられないこと() {
+    AdaptiveConcurrencyLimiter sut = new AdaptiveConcurrencyLimiter("getStudent", 8, 2, 10, 2.0, 0.5);
+    sut.tryAcquire();
+    sut.release(MILLIS);
+
+    for (int i = 0; i < 10; i++) {
+      sut.tryAcquire();
+      sut.release(80 * MILLIS);
+    }
+
+    assertEquals(8, sut.limit());
+  }
+}
@@ -0,0 +1,99 @@
+package raisetech.student.management.controller.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import raisetech.student.management.controller.handler.exception.ConcurrencyLimitEx;
+import raisetech.student.management.domain.ConcurrencyLimitStatistics;
+
+class EndpointBulkheadInterceptorTest {
+
+  private EndpointBulkheadInterceptor sut;
+
+  private HandlerMethod searchHandler;
+
+  private HandlerMethod detailHandler;
+
+  private MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @BeforeEach
+  void before() throws Exception {
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("student.limiter.endpoints.searchStudents.initial-limit", "1");
+    sut = new EndpointBulkheadInterceptor(environment, 10, true, 5, 1, 10, 2.0, 0.9, 3);
+    Handlers handlers = new Handlers();
+    searchHandler = new HandlerMethod(handlers, Handlers.class.getMethod("searchStudents"));
+    detailHandler = new HandlerMethod(handlers, Handlers.class.getMethod("getStudent"));
+  }
+
+  @Test
+  void エンドポイントの上限を超えた時_拒否され他のエンドポイントは受け付けられること() {
+    MockHttpServletRequest running = new MockHttpServletRequest();
+    assertTrue(sut.preHandle(running, response, searchHandler));
+
+    ConcurrencyLimitEx actual = assertThrows(ConcurrencyLimitEx.class,
+        () -> sut.preHandle(new MockHttpServletRequest(), response, searchHandler));
+    assertEquals(3, actual.getRetryAfterSeconds());
+    assertTrue(sut.preHandle(new MockHttpServletRequest(), response, detailHandler));
+
+    sut.afterCompletion(running, response, searchHandler, null);
+    assertTrue(sut.preHandle(new MockHttpServletRequest(), response, searchHandler));
+
+    List<ConcurrencyLimitStatistics> statistics = sut.statistics();
+    assertEquals(List.of("getStudent", "searchStudents"), statistics.stream()
+        .map(ConcurrencyLimitStatistics::getEndpoint)
+        .toList());
+    assertEquals(1, statistics.get(1).getRejectedCount());
+    assertEquals(5, statistics.get(0).getLimit());
+  }
+
+  @Test
+  void 非同期処理のリクエスト_非同期処理の完了まで実行枠が保持されること() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+    sut.preHandle(request, response, searchHandler);
+    request.startAsync();
+
+    sut.afterCompletion(request, response, searchHandler, null);
+    assertEquals(1, sut.statistics().get(0).getInFlight());
+
+    request.setAsyncStarted(false);
+    assertTrue(sut.preHandle(request, response, searchHandler));
+    sut.afterCompletion(request, response, searchHandler, null);
+    assertEquals(0, sut.statistics().get(0).getInFlight());
+  }
+
+  @Test
+  void 制限が無効な時_上限を超えても受け付けられること() {
+    sut = new EndpointBulkheadInterceptor(new MockEnvironment(), 10, false, 1, 1, 1, 2.0, 0.9, 1);
+
+    assertTrue(sut.preHandle(new MockHttpServletRequest(), response, searchHandler));
+    assertTrue(sut.preHandle(new MockHttpServletRequest(), response, searchHandler));
+    assertTrue(sut.statistics().isEmpty());
+  }
+
+  @Test
+  void 上限の指定がない時_コネクションプールの大きさから上限の初期値が決まること() {
+    sut = new EndpointBulkheadInterceptor(new MockEnvironment(), 10, true, 0, 2, 0, 2.0, 0.9, 1);
+
+    assertTrue(sut.preHandle(new MockHttpServletRequest(), response, detailHandler));
+    assertEquals(5, sut.statistics().get(0).getLimit());
+  }
+
+  static class Handlers {
+
+    public void searchStudents() {
+    }
+
+    public void getStudent() {
+    }
+  }
+}
@@ -4,17 +4,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 import raisetech.student.management.data.ApplicationStatus;
 import raisetech.student.management.data.Course;
 import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.EnrollmentCount;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentPatch;
 
 @MybatisTest
 @Transactional
@@ -25,6 +36,9 @@ class MainRepositoryTest {
   @Autowired
   private MainRepository sut;
 
+  @Autowired
+  private DataSource dataSource;
+
   @Test
   void 受講生の全件検索が行えること() {
     List<Student> actual = sut.searchAllStudents();
@@ -59,12 +73,133 @@ class MainRepositoryTest {
             false);
   }
 
+  @Test
+  void 受講生情報を複数のIDでまとめて取得できること() {
+    List<Student> actual = sut.fetchByIds(List.of(4, 2, 99));
+
+    assertThat(actual).extracting(Student::getId).containsExactlyInAnyOrder(2, 4);
+  }
+
+  @Test
+  void 受講生の条件付き検索をカーソル以降の指定件数で取得できること() {
+    List<Student> firstPage = sut.searchStudentPageByCriteria(
+        null, null, null, null, null, null, null, 2, null);
+    assertThat(firstPage).extracting(Student::getId).containsExactly(1, 2);
+
+    List<Student> nextPage = sut.searchStudentPageByCriteria(
+        null, null, null, null, null, null, 2, 2, null);
+    assertThat(nextPage).extracting(Student::getId).containsExactly(3, 4);
+  }
+
+  @Test
+  void 受講生の条件付きページ検索で指定したカラムのみ取得されること() {
+    List<Student> actual = sut.searchStudentPageByCriteria(
+        null, null, null, null, null, null, null, 1, List.of("id", "name", "email_address"));
+
+    assertThat(actual).extracting(Student::getId, Student::getName, Student::getEmailAddress,
+            Student::getKanaName, Student::getRemark)
+        .containsExactly(tuple(1, "山田太郎", "taro@example.com", null, null));
+  }
+
+  @Test
+  void 受講生の条件付きページ検索でコース名の条件が適用されること() {
+    List<Student> actual = sut.searchStudentPageByCriteria(
+        null, null, null, "Java", null, null, null, 10, null);
+    assertThat(actual).extracting(Student::getId).containsExactly(1, 4);
+  }
+
+  @Test
+  void 受講生をカーソルでID順に読み出せること() throws Exception {
+    List<Integer> actual = new ArrayList<>();
+    try (Cursor<Student> cursor = sut.streamAllStudents()) {
+      cursor.forEach(student -> actual.add(student.getId()));
+    }
+    assertThat(actual).containsExactly(1, 2, 3, 4, 5);
+  }
+
+  @Test
+  void 受講生詳細を結合クエリでIDに紐づけて取得できること() {
+    StudentDetail actual = sut.fetchDetailById(1);
+    assertThat(actual).isNotNull();
+    assertThat(actual.getStudent()).extracting(Student::getId, Student::getName)
+        .containsExactly(1, "山田太郎");
+    assertThat(actual.getCourseDetailList())
+        .extracting("course.id", "course.courseName", "applicationStatus.applicationStatus")
+        .containsExactly(
+            tuple(1, "Javaコース", "受講中"),
+            tuple(2, "AWSコース", "受講中"),
+            tuple(10, "Web制作コース", "仮申込"));
+  }
+
+  @Test
+  void 受講生詳細の結合クエリによる条件付き検索でコース情報が全て含まれること() {
+    List<StudentDetail> actual = sut.searchDetailsByCriteria(null, null, null, "Java", null, null);
+    assertThat(actual).extracting("student.id").containsExactly(1, 4);
+    assertThat(actual.get(0).getCourseDetailList()).hasSize(3);
+    assertThat(actual.get(1).getCourseDetailList()).hasSize(2);
+  }
+
+  @Test
+  void 受講生詳細の結合クエリによるページ検索がカーソル以降の指定件数で取得できること() {
+    List<StudentDetail> actual = sut.searchDetailPageByCriteria(
+        null, null, null, null, null, null, 2, 2, null);
+    assertThat(actual).extracting("student.id").containsExactly(3, 4);
+    assertThat(actual.get(0).getCourseDetailList()).hasSize(3);
+  }
+
+  @Test
+  void 受講生の条件付き検索で受講生IDの候補が指定された時に候補内で検索されること() {
+    List<Student> actual = sut.searchStudentByCriteria(
+        "田", null, null, null, null, List.of(3, 4, 5));
+    assertThat(actual).extracting(Student::getId).containsExactly(3);
+  }
+
+  @ParameterizedTest
+  @CsvSource(nullValues = "null", value = {
+      "null, null, null, null, null",
+      "田, null, null, null, null",
+      "null, example, 女性, null, null",
+      "null, null, null, Java, null",
+      "null, null, null, デザイン, 本申込",
+      "null, null, null, null, 受講中",
+      "null, null, 男性, AWS, 受講中",
+      "太郎, taro, 男性, Web制作, 仮申込",
+      "null, null, null, 存在しないコース, null"
+  })
+  void 受講生の条件付き検索の結果が結合と重複排除による検索の結果と一致すること(
+      String name, String emailAddress, String gender, String courseName, String applicationStatus) {
+    List<Integer> expected = searchIdsByLeftJoin(
+        name, emailAddress, gender, courseName, applicationStatus);
+
+    List<Student> actual = sut.searchStudentByCriteria(
+        name, emailAddress, gender, courseName, applicationStatus, null);
+
+    assertThat(actual).extracting(Student::getId).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @Test
   void コースリストの全件検索が行えること() {
     List<Course> actual = sut.searchAllCourses();
     assertThat(actual.size()).isEqualTo(10);
   }
 
+  @Test
+  void コース名と申込状況ごとの受講生数を集計できること() {
+    List<EnrollmentCount> actual = sut.countEnrollments();
+    assertThat(actual).extracting(
+            EnrollmentCount::getCourseName,
+            EnrollmentCount::getApplicationStatus,
+            EnrollmentCount::getStudentCount)
+        .containsExactlyInAnyOrder(
+            tuple("Javaコース", "受講中", 1L),
+            tuple("Javaコース", "受講終了", 1L),
+            tuple("AWSコース", "受講中", 1L),
+            tuple("デザインコース", "本申込", 2L),
+            tuple("Web制作コース", "仮申込", 2L),
+            tuple("マーケティングコース", "本申込", 1L),
+            tuple("マーケティングコース", "受講終了", 1L));
+  }
+
   @Test
   void コース情報をのIDで取得処理が行えること() {
     List<Course> actual = sut.fetchCourseById(5);
@@ -149,6 +284,57 @@ class MainRepositoryTest {
 
   }
 
+  @Test
+  void 受講生と受講生詳細の取得で受講生詳細のバージョンも取得されること() {
+    Student student = sut.fetchById(1);
+    sut.updateStudent(student);
+
+    assertThat(sut.fetchById(1).getVersion()).isEqualTo(1);
+    assertThat(sut.fetchDetailById(1).getStudent().getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生情報の更新で受講生詳細のバージョンが加算されること() {
+    Integer before = sut.fetchVersionById(1);
+    Student student = sut.fetchById(1);
+
+    sut.updateStudent(student);
+
+    assertThat(before).isEqualTo(0);
+    assertThat(sut.fetchVersionById(1)).isEqualTo(1);
+    assertThat(sut.fetchVersionById(999)).isNull();
+  }
+
+  @Test
+  void 受講生の部分更新で指定した項目のみが更新されること() {
+    Map<String, Object> patch = new HashMap<>();
+    patch.put("residence", "神奈川");
+    patch.put("remark", null);
+    StudentPatch studentPatch = StudentPatch.parse(patch);
+    studentPatch.getStudent().setId(1);
+
+    int actual = sut.patchStudent(studentPatch);
+
+    assertThat(actual).isEqualTo(1);
+    Student student = sut.fetchById(1);
+    assertThat(student).extracting(
+            Student::getName,
+            Student::getEmailAddress,
+            Student::getResidence,
+            Student::getAge,
+            Student::getRemark)
+        .containsExactly("山田太郎", "taro@example.com", "神奈川", 25, null);
+    assertThat(sut.fetchVersionById(1)).isEqualTo(1);
+  }
+
+  @Test
+  void 存在しない受講生の部分更新では更新件数が0になること() {
+    StudentPatch studentPatch = StudentPatch.parse(Map.of("residence", "神奈川"));
+    studentPatch.getStudent().setId(999);
+
+    assertThat(sut.patchStudent(studentPatch)).isZero();
+  }
+
   @Test
   void コース名の更新を適切に行うこと() {
     List<Course> preUpdateCourse = sut.fetchCourseById(5);
@@ -261,6 +447,33 @@ class MainRepositoryTest {
 
   }
 
+  /**
+   * LEFT JOINとDISTINCTで条件付き検索を行います（EXISTSによる検索との比較用）。
+   */
+  private List<Integer> searchIdsByLeftJoin(
+      String name, String emailAddress, String gender, String courseName, String applicationStatus) {
+    StringBuilder sql = new StringBuilder("""
+        SELECT DISTINCT s.id FROM students s
+        LEFT JOIN student_courses c ON s.id = c.student_id
+        LEFT JOIN application_status a ON c.id = a.course_id
+        WHERE 1 = 1
+        """);
+    List<Object> args = new ArrayList<>();
+    appendLike(sql, args, "s.name", name);
+    appendLike(sql, args, "s.email_address", emailAddress);
+    appendLike(sql, args, "s.gender", gender);
+    appendLike(sql, args, "c.course_name", courseName);
+    appendLike(sql, args, "a.application_status", applicationStatus);
+    return new JdbcTemplate(dataSource).queryForList(sql.toString(), Integer.class, args.toArray());
+  }
+
+  private void appendLike(StringBuilder sql, List<Object> args, String column, String value) {
+    if (value != null && !value.isEmpty()) {
+      sql.append(" AND ").append(column).append(" LIKE CONCAT('%', ?, '%')");
+      args.add(value);
+    }
+  }
+
 }
 
 
@@ -0,0 +1,86 @@
+package raisetech.student.management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@MybatisTest
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class SchemaMigrationTest {
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  void マイグレーションで結合キーと絞り込み条件のインデックスが作成されていること() {
+    List<String> actual = new JdbcTemplate(dataSource).queryForList(
+        "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC'",
+        String.class);
+
+    assertThat(actual).contains(
+        "IDX_STUDENT_COURSES_STUDENT_ID",
+        "IDX_APPLICATION_STATUS_COURSE_ID",
+        "IDX_STUDENTS_EMAIL_ADDRESS",
+        "IDX_STUDENTS_WAS_DELETED");
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "fetchCourseById, IDX_STUDENT_COURSES_STUDENT_ID",
+      "searchCoursesByStudentId, IDX_STUDENT_COURSES_STUDENT_ID",
+      "searchStatusByStudentId, IDX_APPLICATION_STATUS_COURSE_ID",
+      "fetchStatusByCourseIds, IDX_APPLICATION_STATUS_COURSE_ID",
+      "searchNotDeletedStudent, IDX_STUDENTS_WAS_DELETED"
+  })
+  void 結合キーと絞り込み条件の検索で全件走査せずインデックスが使われること(String statementId, String indexName) {
+    String actual = explain(statementId);
+
+    assertThat(actual).contains(indexName).doesNotContain("tableScan");
+  }
+
+  /**
+   * マッパーのステートメントから実際に生成されるSQLを、テスト用のパラメータでEXPLAINします。
+   */
+  private String explain(String statementId) {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    MappedStatement mappedStatement = configuration.getMappedStatement(
+        MainRepository.class.getName() + "." + statementId);
+    Object parameterObject = switch (statementId) {
+      case "fetchCourseById" -> 1;
+      case "searchNotDeletedStudent" -> null;
+      default -> ParamNameResolver.wrapToMapIfCollection(List.of(1, 2, 3), null);
+    };
+    BoundSql boundSql = mappedStatement.getBoundSql(parameterObject);
+    List<Object> valueList = boundSql.getParameterMappings().stream()
+        .map(parameterMapping -> boundSql.hasAdditionalParameter(parameterMapping.getProperty())
+            ? boundSql.getAdditionalParameter(parameterMapping.getProperty())
+            : parameterObject)
+        .toList();
+
+    return String.join("\n", new JdbcTemplate(dataSource).query(
+        "EXPLAIN " + boundSql.getSql(),
+        ps -> {
+          for (int i = 0; i < valueList.size(); i++) {
+            ps.setObject(i + 1, valueList.get(i));
+          }
+        },
+        (rs, rowNum) -> rs.getString(1)));
+  }
+}
@@ -0,0 +1,62 @@
+package raisetech.student.management.repository.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import raisetech.student.management.domain.SlowQuery;
+import raisetech.student.management.repository.MainRepository;
+
+@MybatisTest
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+@Import(SlowQueryLogInterceptor.class)
+@TestPropertySource(properties = "student.slow-query.threshold-millis=0")
+class SlowQueryLogInterceptorTest {
+
+  @Autowired
+  private MainRepository repository;
+
+  @Autowired
+  private SlowQueryLogInterceptor sut;
+
+  @Test
+  void しきい値を超えた検索_実際に生成されたSQLとマスクしたパラメータが記録されること() {
+    repository.searchStudentByCriteria("山田", null, "男性", null, null, null);
+
+    SlowQuery actual = sut.slowQueries().get(0);
+    assertThat(actual.getStatementId()).isEqualTo("searchStudentByCriteria");
+    assertThat(actual.getSql()).contains("s.name LIKE").doesNotContain("s.email_address LIKE");
+    assertThat(actual.getParameterList()).containsExactly("name=***", "gender=男性");
+  }
+
+  @Test
+  void しきい値を超えた検索_同じSQLとパラメータで取得した実行計画が添付されること() throws Exception {
+    // 実行計画の取得は同時に1件までなので、前のEXPLAINと重なった場合は再度実行する
+    SlowQuery actual = null;
+    for (int i = 0; i < 50 && (actual == null || actual.getPlan() == null); i++) {
+      repository.searchStudentByCriteria(null, null, null, "Java", null, null);
+      Thread.sleep(100);
+      actual = sut.slowQueries().stream()
+          .filter(slowQuery -> slowQuery.getPlan() != null)
+          .filter(slowQuery -> slowQuery.getSql().contains("c.course_name LIKE"))
+          .findFirst()
+          .orElse(null);
+    }
+    assertThat(actual).isNotNull();
+    assertThat(actual.getPlan()).isNotEmpty();
+  }
+
+  @Test
+  void 個人情報にあたるパラメータのみマスクされること() {
+    assertThat(SlowQueryLogInterceptor.mask("emailAddress", "taro@example.com")).isEqualTo("***");
+    assertThat(SlowQueryLogInterceptor.mask("student.name", "山田太郎")).isEqualTo("***");
+    assertThat(SlowQueryLogInterceptor.mask("age", 25)).isEqualTo("25");
+    assertThat(SlowQueryLogInterceptor.mask("__frch_id_0", 1)).isEqualTo("1");
+    assertThat(SlowQueryLogInterceptor.mask("remark", null)).isEqualTo("null");
+  }
+}
@@ -0,0 +1,100 @@
+package raisetech.student.management.repository.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import java.util.List;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+import raisetech.student.management.domain.StatementStatistics;
+
+class StatementMetricsInterceptorTest {
+
+  private StatementMetricsInterceptor sut = new StatementMetricsInterceptor();
+
+  @Test
+  void 検索の実行回数と取得件数がステートメントごとに記録されること() throws Throwable {
+    MappedStatement statement = mappedStatement("searchStudentByCriteria", SqlCommandType.SELECT);
+
+    sut.intercept(queryInvocation(statement, List.of("a", "b", "c")));
+    sut.intercept(queryInvocation(statement, List.of("d")));
+
+    List<StatementStatistics> actual = sut.statistics();
+    assertEquals(1, actual.size());
+    assertEquals("searchStudentByCriteria", actual.get(0).getStatementId());
+    assertEquals(2, actual.get(0).getCount());
+    assertEquals(4, actual.get(0).getRowCount());
+    assertEquals(0, actual.get(0).getErrorCount());
+  }
+
+  @Test
+  void 更新件数が記録され_バッチ実行の負の更新件数は0件として記録されること() throws Throwable {
+    MappedStatement statement = mappedStatement("registerStudent", SqlCommandType.INSERT);
+
+    sut.intercept(updateInvocation(statement, 1));
+    sut.intercept(updateInvocation(statement, Integer.MIN_VALUE + 1002));
+
+    StatementStatistics actual = sut.statistics().get(0);
+    assertEquals(2, actual.getCount());
+    assertEquals(1, actual.getRowCount());
+  }
+
+  @Test
+  void 例外が発生した場合_エラー回数が記録され例外が送出されること() throws Exception {
+    MappedStatement statement = mappedStatement("fetchById", SqlCommandType.SELECT);
+    Executor executor = mock(Executor.class);
+    doThrow(new SQLException("接続エラー")).when(executor).update(statement, null);
+    Invocation invocation = new Invocation(executor,
+        Executor.class.getMethod("update", MappedStatement.class, Object.class),
+        new Object[]{statement, null});
+
+    InvocationTargetException ex = assertThrows(InvocationTargetException.class,
+        () -> sut.intercept(invocation));
+
+    assertInstanceOf(SQLException.class, ex.getCause());
+    StatementStatistics actual = sut.statistics().get(0);
+    assertEquals(1, actual.getCount());
+    assertEquals(1, actual.getErrorCount());
+  }
+
+  private static MappedStatement mappedStatement(String id, SqlCommandType commandType) {
+    Configuration configuration = new Configuration();
+    SqlSource sqlSource = mock(SqlSource.class);
+    return new MappedStatement.Builder(configuration,
+        "raisetech.student.management.repository.MainRepository." + id, sqlSource, commandType)
+        .build();
+  }
+
+  private static Invocation queryInvocation(MappedStatement statement, List<?> result)
+      throws Exception {
+    Executor executor = mock(Executor.class);
+    doReturn(result).when(executor)
+        .query(statement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+    return new Invocation(executor,
+        Executor.class.getMethod("query",
+            MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+        new Object[]{statement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+  }
+
+  private static Invocation updateInvocation(MappedStatement statement, int result)
+      throws Exception {
+    Executor executor = mock(Executor.class);
+    doReturn(result).when(executor).update(statement, null);
+    return new Invocation(executor,
+        Executor.class.getMethod("update", MappedStatement.class, Object.class),
+        new Object[]{statement, null});
+  }
+}
@@ -0,0 +1,111 @@
+package raisetech.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.management.domain.EnrollmentCount;
+import raisetech.student.management.domain.EnrollmentStatistics;
+import raisetech.student.management.repository.MainRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentCounterTest {
+
+  @Mock
+  private MainRepository repository;
+
+  private EnrollmentCounter sut;
+
+  @BeforeEach
+  void before() {
+    sut = new EnrollmentCounter(repository, 0);
+    when(repository.countEnrollments()).thenReturn(new ArrayList<>(List.of(
+        new EnrollmentCount("Javaコース", "受講中", 3),
+        new EnrollmentCount("AWSコース", "本申込", 1),
+        new EnrollmentCount("Javaコース", "仮申込", 2))));
+  }
+
+  @Test
+  void 受講生数の集計_初回の取得時のみデータベースで集計されコース名と申込状況の順に返されること() {
+    sut.statistics();
+    EnrollmentStatistics actual = sut.statistics();
+
+    verify(repository, times(1)).countEnrollments();
+    assertThat(actual.getEnrollmentCountList()).extracting(
+            EnrollmentCount::getCourseName,
+            EnrollmentCount::getApplicationStatus,
+            EnrollmentCount::getStudentCount)
+        .containsExactly(
+            tuple("AWSコース", "本申込", 1L),
+            tuple("Javaコース", "仮申込", 2L),
+            tuple("Javaコース", "受講中", 3L));
+    assertThat(actual.getTotalCount()).isEqualTo(6);
+    assertThat(actual.getReconciledAt()).isNotNull();
+  }
+
+  @Test
+  void 受講生数の集計_差分が反映され0件になった組み合わせが除かれること() {
+    sut.statistics();
+    EnrollmentDelta enrollmentDelta = new EnrollmentDelta();
+    enrollmentDelta.remove("AWSコース", "本申込");
+    enrollmentDelta.add("AWSコース", "受講中");
+    enrollmentDelta.add("Javaコース", "受講中");
+
+    sut.applyAfterCommit(enrollmentDelta);
+
+    assertThat(sut.statistics().getEnrollmentCountList()).extracting(
+            EnrollmentCount::getCourseName,
+            EnrollmentCount::getApplicationStatus,
+            EnrollmentCount::getStudentCount)
+        .containsExactly(
+            tuple("AWSコース", "受講中", 1L),
+            tuple("Javaコース", "仮申込", 2L),
+            tuple("Javaコース", "受講中", 4L));
+  }
+
+  @Test
+  void 受講生数の集計_トランザクション中の差分はコミット後に反映されること() {
+    sut.statistics();
+    EnrollmentDelta enrollmentDelta = new EnrollmentDelta();
+    enrollmentDelta.add("Javaコース", "受講中");
+
+    TransactionSynchronizationManager.initSynchronization();
+    List<TransactionSynchronization> synchronizationList;
+    try {
+      sut.applyAfterCommit(enrollmentDelta);
+      synchronizationList = TransactionSynchronizationManager.getSynchronizations();
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(sut.statistics().getTotalCount()).isEqualTo(6);
+    synchronizationList.forEach(TransactionSynchronization::afterCommit);
+    assertThat(sut.statistics().getTotalCount()).isEqualTo(7);
+  }
+
+  @Test
+  void 受講生数の集計_集計し直すと差分で反映した件数がデータベースの件数で補正されること() {
+    sut.statistics();
+    EnrollmentDelta enrollmentDelta = new EnrollmentDelta();
+    enrollmentDelta.add("デザインコース", "受講中");
+    sut.applyAfterCommit(enrollmentDelta);
+
+    sut.reconcile();
+
+    EnrollmentStatistics actual = sut.statistics();
+    assertThat(actual.getEnrollmentCountList()).extracting(EnrollmentCount::getCourseName)
+        .doesNotContain("デザインコース");
+    assertThat(actual.getTotalCount()).isEqualTo(6);
+  }
+}
@@ -1,7 +1,9 @@
 package raisetech.student.management.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -10,6 +12,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,7 +23,12 @@ import raisetech.student.management.data.ApplicationStatus;
 import raisetech.student.management.data.Course;
 import raisetech.student.management.data.Student;
 import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.StudentBatchGetResult;
 import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentFields;
+import raisetech.student.management.domain.StudentPage;
+import raisetech.student.management.domain.StudentPatch;
+import raisetech.student.management.domain.StudentUpdateResult;
 import raisetech.student.management.repository.MainRepository;
 
 
@@ -33,11 +41,23 @@ class MainServiceTest {
   @Mock
   private MainConverter converter;
 
+  @Mock
+  private StudentDetailUpdater detailUpdater;
+
+  private StudentSearchIndex searchIndex;
+
+  private EnrollmentCounter enrollmentCounter;
+
   private MainService sut;
 
   @BeforeEach
   void before() {
-    sut = new MainService(repository, converter);
+    searchIndex = new StudentSearchIndex(repository, null, false, 1000);
+    enrollmentCounter = new EnrollmentCounter(repository, 0);
+    sut = new MainService(repository, converter,
+        new StudentDetailCache(0, 300), new ParallelQueryExecutor(false, 0), searchIndex,
+        new RequestCoalescer(false, 0), detailUpdater, new StudentSearchCache(0, 30, 300),
+        enrollmentCounter, false);
   }
 
   @Test
@@ -53,7 +73,7 @@ class MainServiceTest {
     when(mockStudent.getId()).thenReturn(1);
 
     when(repository.searchStudentByCriteria(
-        null, null, null, null, null))
+        null, null, null, null, null, null))
         .thenReturn(studentList);
     when(repository.searchCoursesByStudentId(anyList())).thenReturn(courseList);
     when(repository.searchStatusByStudentId(anyList())).thenReturn(statusList);
@@ -63,7 +83,7 @@ class MainServiceTest {
         null, null, null, null ,null);
 
     verify(repository, times(1)).searchStudentByCriteria(
-        null, null, null, null, null);
+        null, null, null, null, null, null);
     verify(repository, times(1)).searchCoursesByStudentId(anyList());
     verify(repository, times(1)).searchStatusByStudentId(anyList());
     verify(converter, times(1)).convertDetails(studentList, courseList, statusList);
@@ -73,6 +93,110 @@ class MainServiceTest {
   }
 
 
+  @Test
+  void 受講生詳細のページ検索_取得件数を超える受講生がいる時に次ページのカーソルが設定されること() {
+    Student studentA = new Student();
+    studentA.setId(11);
+    Student studentB = new Student();
+    studentB.setId(12);
+    Student studentC = new Student();
+    studentC.setId(13);
+    List<StudentDetail> expectedDetails = new ArrayList<>();
+
+    when(repository.searchStudentPageByCriteria(null, null, null, null, null, null, 10, 3, null))
+        .thenReturn(List.of(studentA, studentB, studentC));
+    when(repository.searchCoursesByStudentId(List.of(11, 12))).thenReturn(List.of());
+    when(repository.searchStatusByStudentId(List.of(11, 12))).thenReturn(List.of());
+    when(converter.convertDetails(List.of(studentA, studentB), List.of(), List.of()))
+        .thenReturn(expectedDetails);
+
+    StudentPage actual = sut.searchStudentPage(null, null, null, null, null, 10, 2);
+
+    verify(repository, times(1))
+        .searchStudentPageByCriteria(null, null, null, null, null, null, 10, 3, null);
+    assertEquals(expectedDetails, actual.getStudentDetailList());
+    assertEquals(12, actual.getNextCursor());
+  }
+
+  @Test
+  void 受講生詳細のページ検索_同じ検索条件の2回目は条件検索せず受講生IDから組み立てられること() {
+    MainService cachedSut = new MainService(
+        repository, converter, new StudentDetailCache(0, 300), new ParallelQueryExecutor(false, 0),
+        searchIndex, new RequestCoalescer(false, 0), detailUpdater, new StudentSearchCache(100, 30, 300),
+        enrollmentCounter, false);
+    Student student = new Student();
+    student.setId(11);
+    StudentDetail expectedDetail = new StudentDetail(student, new ArrayList<>());
+    when(repository.searchStudentPageByCriteria(null, null, null, null, null, null, null, 3, null))
+        .thenReturn(List.of(student));
+    when(repository.fetchByIds(List.of(11))).thenReturn(List.of(student));
+    when(repository.searchCoursesByStudentId(List.of(11))).thenReturn(List.of());
+    when(repository.searchStatusByStudentId(List.of(11))).thenReturn(List.of());
+    when(converter.convertDetails(List.of(student), List.of(), List.of())).thenReturn(List.of(expectedDetail));
+
+    cachedSut.searchStudentPage(null, null, null, null, null, null, 2);
+    StudentPage actual = cachedSut.searchStudentPage("", null, "", null, null, null, 2);
+
+    verify(repository, times(1))
+        .searchStudentPageByCriteria(null, null, null, null, null, null, null, 3, null);
+    verify(repository, times(1)).fetchByIds(List.of(11));
+    assertEquals(List.of(expectedDetail), actual.getStudentDetailList());
+    assertNull(actual.getNextCursor());
+  }
+
+  @Test
+  void 受講生詳細のページ検索_最終ページの時に次ページのカーソルがnullになること() {
+    Student student = new Student();
+    student.setId(11);
+
+    when(repository.searchStudentPageByCriteria(null, null, null, null, null, null, null, 3, null))
+        .thenReturn(List.of(student));
+    when(converter.convertDetails(anyList(), anyList(), anyList())).thenReturn(new ArrayList<>());
+
+    StudentPage actual = sut.searchStudentPage(null, null, null, null, null, null, 2);
+
+    assertNull(actual.getNextCursor());
+  }
+
+  @Test
+  void 受講生詳細のページ検索_コース情報を含めない項目指定の時に指定カラムのみ検索しコース情報を取得しないこと() {
+    Student student = new Student();
+    student.setId(11);
+    when(repository.searchStudentPageByCriteria(
+        null, null, null, null, null, null, null, 3, List.of("id", "name", "email_address")))
+        .thenReturn(List.of(student));
+
+    StudentPage actual = sut.searchStudentPage(null, null, null, null, null, null, 2,
+        StudentFields.parse("name,emailAddress"));
+
+    verify(repository, times(0)).searchCoursesByStudentId(anyList());
+    verify(repository, times(0)).searchStatusByStudentId(anyList());
+    assertEquals(1, actual.getStudentDetailList().size());
+    assertEquals(student, actual.getStudentDetailList().get(0).getStudent());
+  }
+
+  @Test
+  void 受講生詳細の複数ID検索_1回のIN検索で取得しリクエストしたIDの順に並べること() {
+    Student studentA = new Student();
+    studentA.setId(1);
+    Student studentB = new Student();
+    studentB.setId(2);
+    StudentDetail detailA = new StudentDetail(studentA, new ArrayList<>());
+    StudentDetail detailB = new StudentDetail(studentB, new ArrayList<>());
+
+    when(repository.fetchByIds(List.of(2, 9, 1))).thenReturn(List.of(studentA, studentB));
+    when(repository.searchCoursesByStudentId(List.of(1, 2))).thenReturn(List.of());
+    when(repository.searchStatusByStudentId(List.of(1, 2))).thenReturn(List.of());
+    when(converter.convertDetails(List.of(studentA, studentB), List.of(), List.of()))
+        .thenReturn(List.of(detailA, detailB));
+
+    StudentBatchGetResult actual = sut.searchStudentsByIds(List.of(2, 9, 1, 2));
+
+    verify(repository, times(1)).fetchByIds(List.of(2, 9, 1));
+    assertEquals(List.of(detailB, detailA), actual.getStudentDetailList());
+    assertEquals(List.of(9), actual.getMissingIdList());
+  }
+
   @Test
   void 受講生詳細の検索_リポジトリからIDに紐づく検索処理が適切に呼び出されていること() {
     Student student = new Student();
@@ -103,6 +227,66 @@ class MainServiceTest {
     assertEquals(expectedDetail, actual);
   }
 
+  @Test
+  void 受講生詳細の検索_結合取得モードの時に結合クエリのみが呼び出されること() {
+    MainService joinFetchSut = new MainService(
+        repository, converter, new StudentDetailCache(0, 300), new ParallelQueryExecutor(false, 0),
+        searchIndex, new RequestCoalescer(false, 0), detailUpdater, new StudentSearchCache(0, 30, 300),
+        enrollmentCounter, true);
+    StudentDetail expectedDetail = new StudentDetail();
+    when(repository.fetchDetailById(555)).thenReturn(expectedDetail);
+
+    StudentDetail actual = joinFetchSut.searchStudentId(555);
+
+    verify(repository, times(1)).fetchDetailById(555);
+    verify(repository, times(0)).fetchById(555);
+    verify(converter, times(0)).convertDetails(anyList(), anyList(), anyList());
+    assertEquals(expectedDetail, actual);
+  }
+
+  @Test
+  void 受講生詳細の検索_キャッシュ有効時に2回目の検索でリポジトリが呼び出されないこと() {
+    MainService cachedSut = new MainService(
+        repository, converter, new StudentDetailCache(100, 300), new ParallelQueryExecutor(false, 0),
+        searchIndex, new RequestCoalescer(false, 0), detailUpdater, new StudentSearchCache(0, 30, 300),
+        enrollmentCounter, false);
+    Student student = new Student();
+    student.setId(555);
+    StudentDetail expectedDetail = new StudentDetail();
+    expectedDetail.setStudent(student);
+    when(repository.fetchById(555)).thenReturn(student);
+    when(repository.fetchCourseById(555)).thenReturn(new ArrayList<>());
+    when(converter.convertDetails(anyList(), anyList(), anyList())).thenReturn(List.of(expectedDetail));
+
+    StudentDetail first = cachedSut.searchStudentId(555);
+    StudentDetail second = cachedSut.searchStudentId(555);
+
+    verify(repository, times(1)).fetchById(555);
+    assertEquals(expectedDetail, first);
+    assertEquals(expectedDetail, second);
+  }
+
+  @Test
+  void 受講生詳細の更新_更新した受講生のキャッシュが無効化されること() {
+    StudentDetailCache detailCache = new StudentDetailCache(100, 300);
+    MainService cachedSut = new MainService(
+        repository, converter, detailCache, new ParallelQueryExecutor(false, 0), searchIndex,
+        new RequestCoalescer(false, 0), detailUpdater, new StudentSearchCache(0, 30, 300),
+        enrollmentCounter, false);
+    Student student = new Student();
+    student.setId(777);
+    StudentDetail cachedDetail = new StudentDetail();
+    cachedDetail.setStudent(student);
+    detailCache.get(777, id -> cachedDetail);
+    StudentDetail updateDetail = new StudentDetail(student, new ArrayList<>());
+    when(detailUpdater.update(eq(updateDetail), any(EnrollmentDelta.class))).thenReturn(List.of("student.name"));
+
+    cachedSut.updateStudent(updateDetail);
+
+    assertEquals(1, detailCache.statistics().getInvalidationCount());
+    assertEquals(0, detailCache.statistics().getSize());
+  }
+
   @Test
   void 受講生詳細の登録が適切に実装していること() {
     Student student = new Student();
@@ -149,13 +333,56 @@ class MainServiceTest {
     StudentDetail expectedUpdateDetail = new StudentDetail();
     expectedUpdateDetail.setStudent(student);
     expectedUpdateDetail.setCourseDetailList(courseDetailList);
+    List<String> changedFieldList = List.of("courseDetailList[0].course.courseName");
+    when(detailUpdater.update(eq(expectedUpdateDetail), any(EnrollmentDelta.class))).thenReturn(changedFieldList);
+
+    StudentUpdateResult actual = sut.updateStudent(expectedUpdateDetail);
+
+    verify(detailUpdater, times(1)).update(eq(expectedUpdateDetail), any(EnrollmentDelta.class));
+    assertEquals("更新処理が成功しました。", actual.getMessage());
+    assertEquals(changedFieldList, actual.getChangedFieldList());
+  }
+
+  @Test
+  void 受講生詳細の更新_変更がない場合はキャッシュが無効化されないこと() {
+    StudentDetailCache detailCache = new StudentDetailCache(100, 300);
+    MainService cachedSut = new MainService(
+        repository, converter, detailCache, new ParallelQueryExecutor(false, 0), searchIndex,
+        new RequestCoalescer(false, 0), detailUpdater, new StudentSearchCache(0, 30, 300),
+        enrollmentCounter, false);
+    Student student = new Student();
+    student.setId(777);
+    StudentDetail cachedDetail = new StudentDetail(student, new ArrayList<>());
+    detailCache.get(777, id -> cachedDetail);
+    when(detailUpdater.update(eq(cachedDetail), any(EnrollmentDelta.class))).thenReturn(List.of());
 
-    sut.updateStudent(expectedUpdateDetail);
+    StudentUpdateResult actual = cachedSut.updateStudent(cachedDetail);
 
-    verify(repository, times(1)).updateStudent(student);
-    verify(repository, times(1)).updateCourseName(course);
-    verify(repository, times(1)).updateStatus(status);
+    assertTrue(actual.getChangedFieldList().isEmpty());
+    assertEquals(0, detailCache.statistics().getInvalidationCount());
+    assertEquals(1, detailCache.statistics().getSize());
+  }
+
+  @Test
+  void 受講生の部分更新_指定した項目のみで更新し更新した項目が返されること() {
+    StudentPatch studentPatch = StudentPatch.parse(Map.of("residence", "大阪", "age", 30));
+    when(repository.patchStudent(studentPatch)).thenReturn(1);
+
+    StudentUpdateResult actual = sut.patchStudent(777, studentPatch);
+
+    assertEquals(777, studentPatch.getStudent().getId());
+    verify(repository, times(1)).patchStudent(studentPatch);
+    verify(repository, times(0)).fetchById(777);
+    assertEquals(2, actual.getChangedFieldList().size());
+    assertTrue(actual.getChangedFieldList().containsAll(List.of("student.residence", "student.age")));
+  }
+
+  @Test
+  void 受講生の部分更新_受講生が存在しない場合はnullが返されること() {
+    StudentPatch studentPatch = StudentPatch.parse(Map.of("residence", "大阪"));
+    when(repository.patchStudent(studentPatch)).thenReturn(0);
 
+    assertNull(sut.patchStudent(999, studentPatch));
   }
 
   @Test
@@ -0,0 +1,80 @@
+package raisetech.student.management.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelQueryExecutorTest {
+
+  private ParallelQueryExecutor sut;
+
+  @AfterEach
+  void after() {
+    sut.destroy();
+  }
+
+  @Test
+  void 並行実行モードの時_検索処理が仮想スレッドで実行されること() {
+    sut = new ParallelQueryExecutor(true, 2);
+
+    CompletableFuture<Boolean> actual = sut.fork(() -> Thread.currentThread().isVirtual());
+
+    assertTrue(sut.join(actual));
+  }
+
+  @Test
+  void 並行実行モードでない時_検索処理が呼び出し元のスレッドで実行されること() {
+    sut = new ParallelQueryExecutor(false, 2);
+    Thread caller = Thread.currentThread();
+
+    CompletableFuture<Thread> actual = sut.fork(Thread::currentThread);
+
+    assertTrue(actual.isDone());
+    assertEquals(caller, sut.join(actual));
+  }
+
+  @Test
+  void 並行実行数の上限に達している時_検索処理が呼び出し元のスレッドで実行されること() throws Exception {
+    sut = new ParallelQueryExecutor(true, 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Boolean> blocking = sut.fork(() -> {
+      started.countDown();
+      awaitQuietly(release);
+      return true;
+    });
+    started.await();
+
+    CompletableFuture<Boolean> actual = sut.fork(() -> Thread.currentThread().isVirtual());
+
+    assertFalse(sut.join(actual));
+    release.countDown();
+    assertTrue(sut.join(blocking));
+  }
+
+  @Test
+  void 検索処理で発生した例外がそのまま送出されること() {
+    sut = new ParallelQueryExecutor(true, 2);
+
+    CompletableFuture<Object> actual = sut.fork(() -> {
+      throw new IllegalStateException("検索エラー");
+    });
+
+    IllegalStateException ex = assertThrows(IllegalStateException.class, () -> sut.join(actual));
+    assertEquals("検索エラー", ex.getMessage());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
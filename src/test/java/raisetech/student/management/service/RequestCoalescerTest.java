@@ -0,0 +1,122 @@
+package raisetech.student.management.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import raisetech.student.management.domain.CoalescingStatistics;
+
+class RequestCoalescerTest {
+
+  private ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void 同じキーの検索が同時に実行された時_読み込みは1回で結果が共有されること() throws Exception {
+    RequestCoalescer sut = new RequestCoalescer(true, 5000);
+    AtomicInteger loadCount = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> sut.execute("key", () -> {
+      loadCount.incrementAndGet();
+      loading.countDown();
+      awaitQuietly(release);
+      return "result";
+    }), executor);
+    loading.await();
+    CompletableFuture<String> second = CompletableFuture.supplyAsync(
+        () -> sut.execute("key", () -> {
+          loadCount.incrementAndGet();
+          return "other";
+        }), executor);
+    waitUntilCoalesced(sut, 1);
+    release.countDown();
+
+    assertEquals("result", first.get());
+    assertEquals("result", second.get());
+    assertEquals(1, loadCount.get());
+    CoalescingStatistics actual = sut.statistics();
+    assertEquals(1, actual.getLoadCount());
+    assertEquals(1, actual.getCoalescedCount());
+    assertEquals(0, actual.getInFlightCount());
+  }
+
+  @Test
+  void 待機時間を超えた時_自身で読み込むこと() throws Exception {
+    RequestCoalescer sut = new RequestCoalescer(true, 50);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> sut.execute("key", () -> {
+      loading.countDown();
+      awaitQuietly(release);
+      return "slow";
+    }), executor);
+    loading.await();
+
+    String actual = sut.execute("key", () -> "own");
+
+    assertEquals("own", actual);
+    assertEquals(1, sut.statistics().getTimeoutCount());
+    release.countDown();
+    assertEquals("slow", first.get());
+  }
+
+  @Test
+  void 読み込みで発生した例外が待機していた呼び出し元にもそのまま送出されること() throws Exception {
+    RequestCoalescer sut = new RequestCoalescer(true, 5000);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> sut.execute("key", () -> {
+      loading.countDown();
+      awaitQuietly(release);
+      throw new IllegalStateException("検索エラー");
+    }), executor);
+    loading.await();
+    CompletableFuture<Object> second = CompletableFuture.supplyAsync(
+        () -> sut.execute("key", () -> "other"), executor);
+    waitUntilCoalesced(sut, 1);
+    release.countDown();
+
+    Exception ex = assertThrows(Exception.class, second::get);
+    assertEquals(IllegalStateException.class, ex.getCause().getClass());
+    assertEquals("検索エラー", ex.getCause().getMessage());
+    assertThrows(Exception.class, first::get);
+  }
+
+  @Test
+  void 無効の時_同じキーでも毎回読み込むこと() {
+    RequestCoalescer sut = new RequestCoalescer(false, 5000);
+    AtomicInteger loadCount = new AtomicInteger();
+
+    sut.execute("key", loadCount::incrementAndGet);
+    sut.execute("key", loadCount::incrementAndGet);
+
+    assertEquals(2, loadCount.get());
+    assertEquals(0, sut.statistics().getCoalescedCount());
+  }
+
+  private static void waitUntilCoalesced(RequestCoalescer sut, long count) throws InterruptedException {
+    for (int i = 0; i < 500 && sut.statistics().getCoalescedCount() < count; i++) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package raisetech.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.BulkRegisterError;
+import raisetech.student.management.domain.BulkRegisterResult;
+import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.StudentDetail;
+
+@MybatisTest
+@Transactional
+@Rollback(true)
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+@Import({StudentBulkService.class, StudentSearchIndex.class, StudentSearchCache.class, EnrollmentCounter.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class StudentBulkServiceTest {
+
+  @Autowired
+  private StudentBulkService sut;
+
+  @SpyBean
+  private EnrollmentCounter enrollmentCounter;
+
+  @Test
+  void 受講生詳細の一括登録_採番されたIDで受講生とコースと申込状況が紐づくこと() {
+    StudentDetail detailA = createDetail("BulkTestA", "bulk-a@example.com", "Javaコース");
+    StudentDetail detailB = createDetail("BulkTestB", "bulk-b@example.com", "AWSコース");
+
+    BulkRegisterResult actual = sut.registerStudents(List.of(detailA, detailB));
+
+    assertThat(actual.getRegisteredCount()).isEqualTo(2);
+    assertThat(actual.getErrorList()).isEmpty();
+    Integer studentId = detailA.getStudent().getId();
+    assertThat(studentId).isNotNull();
+    CourseDetail courseDetail = detailA.getCourseDetailList().get(0);
+    assertThat(courseDetail.getCourse().getStudentId()).isEqualTo(studentId);
+    assertThat(courseDetail.getApplicationStatus().getCourseId())
+        .isEqualTo(courseDetail.getCourse().getId());
+    assertThat(courseDetail.getApplicationStatus().getApplicationStatus()).isEqualTo("仮申込");
+  }
+
+  @Test
+  void 受講生詳細の一括登録_入力チェックに失敗した受講生詳細の位置が返されること() {
+    StudentDetail validDetail = createDetail("BulkTestA", "bulk-a@example.com", "Javaコース");
+    StudentDetail invalidDetail = createDetail("BulkTestB", "invalid-address", "AWSコース");
+
+    BulkRegisterResult actual = sut.registerStudents(List.of(validDetail, invalidDetail));
+
+    assertThat(actual.getRegisteredCount()).isEqualTo(1);
+    assertThat(actual.getErrorList())
+        .extracting(BulkRegisterError::getIndex, BulkRegisterError::getMessage)
+        .containsExactly(tuple(1, "student.emailAddress: 有効なメールアドレスを入力してください。"));
+    assertThat(invalidDetail.getStudent().getId()).isNull();
+  }
+
+  @Test
+  void 受講生詳細の一括登録_チャンクの登録に失敗した時_失敗した受講生詳細だけが原因とともに返されること() {
+    StudentDetail detailA = createDetail("BulkTestA", "bulk-a@example.com", "Javaコース");
+    StudentDetail invalidDetail = createDetail("BulkTestB", "bulk-b@example.com", "AWSコース");
+    invalidDetail.getStudent().setGender("x".repeat(11));
+    StudentDetail detailC = createDetail("BulkTestC", "bulk-c@example.com", "Javaコース");
+
+    BulkRegisterResult actual = sut.registerStudents(List.of(detailA, invalidDetail, detailC));
+
+    assertThat(actual.getRegisteredCount()).isEqualTo(2);
+    assertThat(actual.getErrorList())
+        .singleElement()
+        .satisfies(error -> {
+          assertThat(error.getIndex()).isEqualTo(1);
+          assertThat(error.getMessage()).startsWith("登録処理に失敗しました。（").isNotEqualTo("登録処理に失敗しました。");
+        });
+  }
+
+  @Test
+  void 受講生詳細の一括登録_コミット後の反映に失敗しても登録済みのチャンクは失敗として扱われないこと() {
+    doThrow(new IllegalStateException("counter failure"))
+        .when(enrollmentCounter).applyAfterCommit(any(EnrollmentDelta.class));
+    StudentDetail detail = createDetail("BulkTestA", "bulk-a@example.com", "Javaコース");
+
+    BulkRegisterResult actual = sut.registerStudents(List.of(detail));
+
+    assertThat(actual.getRegisteredCount()).isEqualTo(1);
+    assertThat(actual.getErrorList()).isEmpty();
+    assertThat(detail.getStudent().getId()).isNotNull();
+  }
+
+  private StudentDetail createDetail(String name, String emailAddress, String courseName) {
+    Student student = new Student();
+    student.setName(name);
+    student.setKanaName("テスト");
+    student.setEmailAddress(emailAddress);
+    student.setAge(20);
+    Course course = new Course();
+    course.setCourseName(courseName);
+    List<CourseDetail> courseDetailList = new ArrayList<>();
+    courseDetailList.add(new CourseDetail(course, null));
+    return new StudentDetail(student, courseDetailList);
+  }
+
+}
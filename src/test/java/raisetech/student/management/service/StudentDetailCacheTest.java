@@ -0,0 +1,61 @@
+package raisetech.student.management.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.StudentDetail;
+
+class StudentDetailCacheTest {
+
+  @Test
+  void 複数の受講生詳細の取得_キャッシュにない受講生IDだけが読み込まれること() {
+    StudentDetailCache sut = new StudentDetailCache(100, 300);
+    AtomicInteger loadCount = new AtomicInteger();
+    Function<List<Integer>, Map<Integer, StudentDetail>> loader = idList -> {
+      loadCount.addAndGet(idList.size());
+      return load(idList, "loaded");
+    };
+
+    sut.getAll(List.of(1, 2), loader);
+    Map<Integer, StudentDetail> actual = sut.getAll(List.of(1, 2, 3), loader);
+
+    assertEquals(3, loadCount.get());
+    assertEquals(3, actual.size());
+    assertEquals("loaded", actual.get(3).getStudent().getName());
+  }
+
+  @Test
+  void 複数の受講生詳細の取得_読み込み中に無効化された場合は読み込んだ受講生詳細を保持しないこと() {
+    StudentDetailCache sut = new StudentDetailCache(100, 300);
+    Function<List<Integer>, Map<Integer, StudentDetail>> staleLoader = idList -> {
+      Map<Integer, StudentDetail> staleMap = load(idList, "stale");
+      sut.evictAfterCommit(1);
+      return staleMap;
+    };
+
+    Map<Integer, StudentDetail> stale = sut.getAll(List.of(1, 2), staleLoader);
+    Map<Integer, StudentDetail> actual = sut.getAll(List.of(1, 2), idList -> load(idList, "fresh"));
+
+    assertEquals("stale", stale.get(1).getStudent().getName());
+    assertEquals("fresh", actual.get(1).getStudent().getName());
+    assertEquals("fresh", actual.get(2).getStudent().getName());
+    assertEquals(1, sut.statistics().getInvalidationCount());
+  }
+
+  private Map<Integer, StudentDetail> load(List<Integer> idList, String name) {
+    return idList.stream().collect(Collectors.toMap(id -> id, id -> detail(id, name)));
+  }
+
+  private StudentDetail detail(int id, String name) {
+    Student student = new Student();
+    student.setId(id);
+    student.setName(name);
+    return new StudentDetail(student, List.of());
+  }
+}
@@ -0,0 +1,177 @@
+package raisetech.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.management.data.ApplicationStatus;
+import raisetech.student.management.data.Course;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.CourseDetail;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.repository.MainRepository;
+
+@MybatisTest
+@Transactional
+@Rollback(true)
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+@Import(StudentDetailUpdater.class)
+class StudentDetailUpdaterTest {
+
+  @Autowired
+  private StudentDetailUpdater sut;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private MainRepository repository;
+
+  @Test
+  void 受講生詳細の差分更新_変更がない場合は更新されずバージョンも変わらないこと() {
+    StudentDetail studentDetail = createCurrentDetail();
+
+    List<String> actual = sut.update(studentDetail);
+
+    assertThat(actual).isEmpty();
+    assertThat(version(1)).isZero();
+  }
+
+  @Test
+  void 受講生詳細の差分更新_変更された項目のみが更新されて返されること() {
+    StudentDetail studentDetail = createCurrentDetail();
+    studentDetail.getStudent().setResidence("神奈川");
+    studentDetail.getCourseDetailList().get(1).getCourse().setCourseName("AWS応用コース");
+    studentDetail.getCourseDetailList().get(0).getApplicationStatus().setApplicationStatus("受講終了");
+
+    List<String> actual = sut.update(studentDetail);
+
+    assertThat(actual).containsExactly(
+        "student.residence",
+        "courseDetailList[0].applicationStatus.applicationStatus",
+        "courseDetailList[1].course.courseName");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    assertThat(jdbcTemplate.queryForObject("SELECT residence FROM students WHERE id = 1", String.class))
+        .isEqualTo("神奈川");
+    assertThat(jdbcTemplate.queryForObject("SELECT course_name FROM student_courses WHERE id = 2", String.class))
+        .isEqualTo("AWS応用コース");
+    assertThat(jdbcTemplate.queryForObject("SELECT application_status FROM application_status WHERE id = 1", String.class))
+        .isEqualTo("受講終了");
+    assertThat(version(1)).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生詳細の差分更新_申込状況のみ変更した場合もバージョンが加算されること() {
+    StudentDetail studentDetail = createCurrentDetail();
+    studentDetail.getCourseDetailList().get(1).getApplicationStatus().setApplicationStatus("本申込");
+
+    List<String> actual = sut.update(studentDetail);
+
+    assertThat(actual).containsExactly("courseDetailList[1].applicationStatus.applicationStatus");
+    assertThat(version(1)).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生詳細の差分更新_コース名と申込状況の変更による受講生数の差分が記録されること() {
+    StudentDetail studentDetail = createCurrentDetail();
+    studentDetail.getCourseDetailList().get(0).getApplicationStatus().setApplicationStatus("受講終了");
+    studentDetail.getCourseDetailList().get(1).getCourse().setCourseName("AWS応用コース");
+    EnrollmentDelta enrollmentDelta = new EnrollmentDelta();
+
+    sut.update(studentDetail, enrollmentDelta);
+
+    assertThat(enrollmentDelta.deltaMap()).containsOnly(
+        entry(new EnrollmentDelta.Key("Javaコース", "受講中"), -1L),
+        entry(new EnrollmentDelta.Key("Javaコース", "受講終了"), 1L),
+        entry(new EnrollmentDelta.Key("AWSコース", "受講中"), -1L),
+        entry(new EnrollmentDelta.Key("AWS応用コース", "受講中"), 1L));
+  }
+
+  @Test
+  void 受講生詳細の差分更新_複数のコース名と申込状況がまとめて更新され同じトランザクションでマッパーから参照できること() {
+    StudentDetail studentDetail = createCurrentDetail();
+    studentDetail.getCourseDetailList().get(0).getCourse().setCourseName("Java応用コース");
+    studentDetail.getCourseDetailList().get(1).getCourse().setCourseName("AWS応用コース");
+    studentDetail.getCourseDetailList().get(0).getApplicationStatus().setApplicationStatus("受講終了");
+    studentDetail.getCourseDetailList().get(1).getApplicationStatus().setApplicationStatus("本申込");
+
+    sut.update(studentDetail);
+
+    assertThat(repository.fetchCourseById(1))
+        .extracting(Course::getId, Course::getCourseName)
+        .contains(tuple(1, "Java応用コース"), tuple(2, "AWS応用コース"));
+    assertThat(repository.fetchStatusByCourseIds(List.of(1, 2)))
+        .extracting(ApplicationStatus::getId, ApplicationStatus::getApplicationStatus)
+        .containsExactlyInAnyOrder(tuple(1, "受講終了"), tuple(2, "本申込"));
+    assertThat(repository.fetchById(1).getResidence()).isEqualTo("東京");
+    assertThat(version(1)).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生詳細の差分更新_申込状況が未登録の複数のコース情報に仮申込がまとめて登録されること() {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.update("DELETE FROM application_status WHERE course_id IN (1, 2)");
+    StudentDetail studentDetail = createCurrentDetail();
+    studentDetail.getCourseDetailList().forEach(courseDetail -> courseDetail.setApplicationStatus(null));
+
+    List<String> actual = sut.update(studentDetail);
+
+    assertThat(actual).containsExactly(
+        "courseDetailList[0].applicationStatus", "courseDetailList[1].applicationStatus");
+    assertThat(repository.fetchStatusByCourseIds(List.of(1, 2)))
+        .extracting(ApplicationStatus::getCourseId, ApplicationStatus::getApplicationStatus)
+        .containsExactlyInAnyOrder(tuple(1, "仮申込"), tuple(2, "仮申込"));
+  }
+
+  private int version(int id) {
+    return new JdbcTemplate(dataSource)
+        .queryForObject("SELECT version FROM students WHERE id = ?", Integer.class, id);
+  }
+
+  /**
+   * テストデータの受講生ID1と同じ内容の受講生詳細を作成します。
+   */
+  private StudentDetail createCurrentDetail() {
+    Student student = new Student();
+    student.setId(1);
+    student.setName("山田太郎");
+    student.setKanaName("ヤマダタロウ");
+    student.setNickname("タロウ");
+    student.setEmailAddress("taro@example.com");
+    student.setResidence("東京");
+    student.setAge(25);
+    student.setGender("男性");
+    student.setRemark("最初の登録者");
+    student.setWasDeleted(false);
+
+    List<CourseDetail> courseDetailList = new ArrayList<>();
+    courseDetailList.add(createCourseDetail(1, "Javaコース", 1, "受講中"));
+    courseDetailList.add(createCourseDetail(2, "AWSコース", 2, "受講中"));
+    return new StudentDetail(student, courseDetailList);
+  }
+
+  private CourseDetail createCourseDetail(
+      int courseId, String courseName, int statusId, String applicationStatus) {
+    Course course = new Course();
+    course.setId(courseId);
+    course.setStudentId(1);
+    course.setCourseName(courseName);
+    ApplicationStatus status = new ApplicationStatus();
+    status.setId(statusId);
+    status.setCourseId(courseId);
+    status.setApplicationStatus(applicationStatus);
+    return new CourseDetail(course, status);
+  }
+}
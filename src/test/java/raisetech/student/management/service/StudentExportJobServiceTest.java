@@ -0,0 +1,159 @@
+package raisetech.student.management.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.management.controller.handler.exception.ExportJobLimitEx;
+import raisetech.student.management.domain.ExportFormat;
+import raisetech.student.management.domain.ExportJobStatus;
+
+@ExtendWith(MockitoExtension.class)
+class StudentExportJobServiceTest {
+
+  @Mock
+  private StudentExportService exportService;
+
+  @TempDir
+  private Path tempDir;
+
+  private StudentExportJobService sut;
+
+  @AfterEach
+  void after() {
+    if (sut != null) {
+      sut.destroy();
+    }
+  }
+
+  @Test
+  void エクスポートジョブ_完了するとgzip圧縮したファイルが取得できること() throws Exception {
+    sut = new StudentExportJobService(exportService, 1, 1, tempDir.toString(), 60, 60);
+    when(exportService.countStudents()).thenReturn(2L);
+    doAnswer(invocation -> {
+      OutputStream outputStream = invocation.getArgument(0);
+      LongPredicate onChunk = invocation.getArgument(2);
+      outputStream.write("a\nb\n".getBytes(StandardCharsets.UTF_8));
+      onChunk.test(2);
+      return 2L;
+    }).when(exportService).exportStudents(any(OutputStream.class), eq(ExportFormat.NDJSON), any(LongPredicate.class));
+
+    ExportJobStatus submitted = sut.submit(ExportFormat.NDJSON);
+    ExportJobStatus actual = awaitFinished(submitted.getJobId());
+
+    assertEquals("COMPLETED", actual.getState());
+    assertEquals(2, actual.getExportedCount());
+    assertEquals(2L, actual.getTotalCount());
+    Path file = sut.exportFile(submitted.getJobId());
+    assertEquals(submitted.getJobId() + ".ndjson.gz", file.getFileName().toString());
+    try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+      assertEquals("a\nb\n", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void エクスポートジョブ_実行中と待機中のジョブが上限に達している時は受け付けないこと() throws Exception {
+    sut = new StudentExportJobService(exportService, 1, 1, tempDir.toString(), 60, 60);
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(exportService.countStudents()).thenAnswer(invocation -> {
+      running.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return 0L;
+    });
+
+    ExportJobStatus first = sut.submit(ExportFormat.CSV);
+    running.await(5, TimeUnit.SECONDS);
+    ExportJobStatus second = sut.submit(ExportFormat.CSV);
+
+    assertThrows(ExportJobLimitEx.class, () -> sut.submit(ExportFormat.CSV));
+    assertEquals("QUEUED", sut.status(second.getJobId()).getState());
+
+    assertTrue(sut.cancel(second.getJobId()));
+    assertNull(sut.status(second.getJobId()));
+    release.countDown();
+    assertEquals("COMPLETED", awaitFinished(first.getJobId()).getState());
+  }
+
+  @Test
+  void エクスポートジョブ_実行中に取り消すと次のチャンクで中断されファイルが残らないこと() throws Exception {
+    sut = new StudentExportJobService(exportService, 1, 1, tempDir.toString(), 60, 60);
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(exportService.countStudents()).thenReturn(10L);
+    doAnswer(invocation -> {
+      LongPredicate onChunk = invocation.getArgument(2);
+      running.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      if (!onChunk.test(5)) {
+        throw new java.util.concurrent.CancellationException();
+      }
+      return 5L;
+    }).when(exportService).exportStudents(any(OutputStream.class), eq(ExportFormat.CSV), any(LongPredicate.class));
+
+    ExportJobStatus submitted = sut.submit(ExportFormat.CSV);
+    running.await(5, TimeUnit.SECONDS);
+    assertTrue(sut.cancel(submitted.getJobId()));
+    release.countDown();
+
+    for (int i = 0; i < 100 && hasFiles(); i++) {
+      Thread.sleep(10);
+    }
+    assertFalse(hasFiles());
+    assertFalse(sut.cancel(submitted.getJobId()));
+  }
+
+  @Test
+  void エクスポートジョブ_保持期間を過ぎた完了済みのジョブは新しいジョブを受け付けなくても削除されること() throws Exception {
+    sut = new StudentExportJobService(exportService, 1, 1, tempDir.toString(), 0, 1);
+    when(exportService.countStudents()).thenReturn(0L);
+
+    ExportJobStatus submitted = sut.submit(ExportFormat.CSV);
+    assertEquals("COMPLETED", awaitFinished(submitted.getJobId()).getState());
+
+    for (int i = 0; i < 300 && sut.status(submitted.getJobId()) != null; i++) {
+      Thread.sleep(10);
+    }
+    assertNull(sut.status(submitted.getJobId()));
+    assertNull(sut.exportFile(submitted.getJobId()));
+    assertFalse(hasFiles());
+  }
+
+  private boolean hasFiles() throws Exception {
+    try (var files = Files.list(tempDir)) {
+      return files.findAny().isPresent();
+    }
+  }
+
+  private ExportJobStatus awaitFinished(String jobId) throws InterruptedException {
+    for (int i = 0; i < 500; i++) {
+      ExportJobStatus status = sut.status(jobId);
+      if (status.getFinishedAt() != null) {
+        return status;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("export job did not finish");
+  }
+}
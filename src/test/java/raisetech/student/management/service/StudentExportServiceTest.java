@@ -0,0 +1,90 @@
+package raisetech.student.management.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.management.controller.converter.MainConverter;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.ExportFormat;
+import raisetech.student.management.domain.StudentFields;
+import raisetech.student.management.repository.MainRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentExportServiceTest {
+
+  @Mock
+  private MainRepository repository;
+
+  @Mock
+  private Cursor<Student> cursor;
+
+  private StudentExportService sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentExportService(repository, new MainConverter(),
+        new ObjectMapper().setFilterProvider(StudentFields.allFields()), 2);
+  }
+
+  @Test
+  void 受講生詳細のエクスポート_チャンクごとにコース情報を取得して1行1件で書き出されること() throws Exception {
+    Student studentA = new Student();
+    studentA.setId(1);
+    Student studentB = new Student();
+    studentB.setId(2);
+    Student studentC = new Student();
+    studentC.setId(3);
+    when(cursor.iterator()).thenReturn(List.of(studentA, studentB, studentC).iterator());
+    when(repository.streamAllStudents()).thenReturn(cursor);
+    when(repository.searchCoursesByStudentId(anyList())).thenReturn(List.of());
+    when(repository.searchStatusByStudentId(anyList())).thenReturn(List.of());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    long actual = sut.exportStudents(outputStream);
+
+    assertEquals(3, actual);
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(3, lines.length);
+    verify(repository, times(1)).searchCoursesByStudentId(List.of(1, 2));
+    verify(repository, times(1)).searchCoursesByStudentId(List.of(3));
+    verify(cursor, times(1)).close();
+  }
+
+  @Test
+  void 受講生詳細のCSVエクスポート_ヘッダーに続けてカンマや改行を含む値が引用符で囲まれて書き出されること() throws Exception {
+    Student student = new Student();
+    student.setId(1);
+    student.setName("山田太郎");
+    student.setRemark("備考,\"引用\"");
+    when(cursor.iterator()).thenReturn(List.of(student).iterator());
+    when(repository.streamAllStudents()).thenReturn(cursor);
+    when(repository.searchCoursesByStudentId(anyList())).thenReturn(List.of());
+    when(repository.searchStatusByStudentId(anyList())).thenReturn(List.of());
+    List<Long> progress = new ArrayList<>();
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    long actual = sut.exportStudents(outputStream, ExportFormat.CSV, exportedCount -> progress.add(exportedCount));
+
+    assertEquals(1, actual);
+    assertEquals(List.of(1L), progress);
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+    assertEquals(2, lines.length);
+    assertEquals(StudentCsv.HEADER.strip(), lines[0]);
+    assertEquals("1,山田太郎,,,,,0,,\"備考,\"\"引用\"\"\",false,,,,,", lines[1]);
+  }
+
+}
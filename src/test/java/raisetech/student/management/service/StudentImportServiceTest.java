@@ -0,0 +1,155 @@
+package raisetech.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.management.controller.handler.exception.InvalidImportFileEx;
+import raisetech.student.management.domain.StudentImportError;
+import raisetech.student.management.domain.StudentImportResult;
+
+@MybatisTest
+@Transactional
+@Rollback(true)
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+@Import({StudentBulkService.class, StudentSearchIndex.class, StudentSearchCache.class, EnrollmentCounter.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class StudentImportServiceTest {
+
+  @Autowired
+  private StudentBulkService bulkService;
+
+  @Autowired
+  private DataSource dataSource;
+
+  private StudentImportService sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentImportService(bulkService, 2, 2, 1);
+  }
+
+  @AfterEach
+  void after() {
+    sut.destroy();
+  }
+
+  @Test
+  void CSVの取り込み_入力チェックに失敗した行の行番号が返され正しい行のみ登録されること() throws Exception {
+    String csv = StudentCsv.HEADER
+        + "1,ImportTestA,テスト,,import-a@example.com,東京,20,,\"備考,改行\r\nあり\",false,1,Javaコース,,,受講中\r\n"
+        + "1,ImportTestA,テスト,,import-a@example.com,東京,20,,\"備考,改行\r\nあり\",false,2,AWSコース,,,受講中\r\n"
+        + ",ImportTestB,テスト,,invalid-address,,20,,,false,,,,,\r\n"
+        + ",ImportTestC,テスト,,import-c@example.com,,abc,,,false,,,,,\r\n"
+        + ",ImportTestD,テスト,,import-d@example.com\r\n"
+        + "\r\n"
+        + ",ImportTestE,テスト,,import-e@example.com,,30,,,false,,,,,\r\n";
+
+    StudentImportResult actual = sut.importStudents(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(actual.getRegisteredCount()).isEqualTo(2);
+    assertThat(actual.getErrorList())
+        .extracting(StudentImportError::getLineNumber, StudentImportError::getMessage)
+        .containsExactly(
+            tuple(6L, "student.emailAddress: 有効なメールアドレスを入力してください。"),
+            tuple(7L, "student.age: 年齢は数値で入力してください。"),
+            tuple(8L, "列数がヘッダーと一致しません。"));
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT remark FROM students WHERE email_address = 'import-a@example.com'", String.class))
+        .isEqualTo("備考,改行\r\nあり");
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT c.course_name FROM student_courses c JOIN students s ON c.student_id = s.id"
+            + " WHERE s.email_address = 'import-a@example.com' ORDER BY c.id", String.class))
+        .containsExactly("Javaコース", "AWSコース");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM students WHERE email_address = 'import-e@example.com'", Integer.class))
+        .isEqualTo(1);
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM students WHERE name IN ('ImportTestB', 'ImportTestC', 'ImportTestD')",
+        Integer.class))
+        .isZero();
+  }
+
+  @Test
+  void CSVの取り込み_論理削除の状態とコース開始日と終了日と申込状況が登録されること() throws Exception {
+    String csv = StudentCsv.HEADER
+        + "1,ImportTestF,テスト,,import-f@example.com,,20,,,true,1,Javaコース,2024-04-01,2024-09-30,受講終了\r\n"
+        + ",ImportTestG,テスト,,import-g@example.com,,20,,,false,,AWSコース,,,\r\n"
+        + ",ImportTestH,テスト,,import-h@example.com,,20,,,false,,AWSコース,,,受講予定\r\n"
+        + ",ImportTestI,テスト,,import-i@example.com,,20,,,false,,AWSコース,2024/04/01,,\r\n";
+
+    StudentImportResult actual = sut.importStudents(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(actual.getRegisteredCount()).isEqualTo(2);
+    assertThat(actual.getErrorList())
+        .extracting(StudentImportError::getLineNumber, StudentImportError::getMessage)
+        .containsExactly(
+            tuple(4L, "applicationStatus: 申込状況は仮申込・本申込・受講中・受講終了のいずれかを入力してください。"),
+            tuple(5L, "course.courseStartAt, course.courseEndAt: 日付はyyyy-MM-dd形式で入力してください。"));
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT s.was_deleted, c.course_start_at, c.course_end_at, a.application_status"
+            + " FROM students s JOIN student_courses c ON c.student_id = s.id"
+            + " JOIN application_status a ON a.course_id = c.id"
+            + " WHERE s.email_address = 'import-f@example.com'"))
+        .singleElement()
+        .satisfies(row -> {
+          assertThat(row.get("WAS_DELETED")).isEqualTo(true);
+          assertThat(row.get("COURSE_START_AT").toString()).isEqualTo("2024-04-01");
+          assertThat(row.get("COURSE_END_AT").toString()).isEqualTo("2024-09-30");
+          assertThat(row.get("APPLICATION_STATUS")).isEqualTo("受講終了");
+        });
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT a.application_status FROM students s JOIN student_courses c ON c.student_id = s.id"
+            + " JOIN application_status a ON a.course_id = c.id"
+            + " WHERE s.email_address = 'import-g@example.com'", String.class))
+        .isEqualTo("仮申込");
+  }
+
+  @Test
+  void CSVの取り込み_登録に失敗した行がある時_その行だけが原因とともに返されること() throws Exception {
+    String csv = StudentCsv.HEADER
+        + ",ImportTestJ,テスト,,import-j@example.com,,20,,,false,,Javaコース,,,\r\n"
+        + ",ImportTestK,テスト,,import-k@example.com,,20,xxxxxxxxxxx,,false,,Javaコース,,,\r\n";
+
+    StudentImportResult actual = sut.importStudents(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(actual.getRegisteredCount()).isEqualTo(1);
+    assertThat(actual.getErrorList())
+        .singleElement()
+        .satisfies(error -> {
+          assertThat(error.getLineNumber()).isEqualTo(3L);
+          assertThat(error.getMessage()).startsWith("登録処理に失敗しました。（");
+        });
+  }
+
+  @Test
+  void CSVの取り込み_必要な列がヘッダーにない場合は例外が発生すること() {
+    String csv = "name,kanaName\r\nImportTestA,テスト\r\n";
+
+    assertThatThrownBy(() -> sut.importStudents(
+        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))))
+        .isInstanceOf(InvalidImportFileEx.class)
+        .hasMessage("CSVのヘッダーにname, emailAddressの列が必要です。");
+  }
+}
@@ -0,0 +1,129 @@
+package raisetech.student.management.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.domain.CacheStatistics;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.domain.StudentPage;
+
+class StudentSearchCacheTest {
+
+  private Function<List<Integer>, List<StudentDetail>> resolver = idList -> idList.stream()
+      .map(id -> detail(id, "cached"))
+      .toList();
+
+  @Test
+  void 同じ検索条件の2回目の検索_受講生ID一覧から受講生詳細が組み立てられること() {
+    StudentSearchCache sut = new StudentSearchCache(100, 30, 300);
+    AtomicInteger loadCount = new AtomicInteger();
+    Supplier<StudentPage> loader = () -> {
+      loadCount.incrementAndGet();
+      return new StudentPage(List.of(detail(3, "loaded"), detail(1, "loaded")), 5);
+    };
+
+    StudentPage first = sut.get("key", loader, resolver);
+    StudentPage second = sut.get("key", loader, resolver);
+
+    assertEquals(1, loadCount.get());
+    assertEquals("loaded", first.getStudentDetailList().get(0).getStudent().getName());
+    assertEquals(List.of(3, 1), second.getStudentDetailList().stream()
+        .map(detail -> detail.getStudent().getId())
+        .toList());
+    assertEquals("cached", second.getStudentDetailList().get(0).getStudent().getName());
+    assertEquals(5, second.getNextCursor());
+    CacheStatistics actual = sut.statistics();
+    assertEquals(1, actual.getHitCount());
+    assertEquals(1, actual.getMissCount());
+  }
+
+  @Test
+  void 再検索間隔を過ぎた検索_古い結果を返しつつ裏で再検索されること() throws Exception {
+    StudentSearchCache sut = new StudentSearchCache(100, 0, 300);
+    AtomicInteger loadCount = new AtomicInteger();
+    Supplier<StudentPage> loader = () -> new StudentPage(
+        List.of(detail(loadCount.incrementAndGet(), "loaded")), null);
+    sut.get("key", loader, resolver);
+
+    StudentPage stale = sut.get("key", loader, resolver);
+
+    assertEquals(1, stale.getStudentDetailList().get(0).getStudent().getId());
+    for (int i = 0; i < 100 && loadCount.get() < 2; i++) {
+      Thread.sleep(10);
+    }
+    assertTrue(loadCount.get() >= 2);
+    for (int i = 0; i < 100; i++) {
+      if (sut.get("key", loader, resolver).getStudentDetailList().get(0).getStudent().getId() >= 2) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("refreshed result was not cached");
+  }
+
+  @Test
+  void 登録や更新による無効化_次の検索で再検索されること() {
+    StudentSearchCache sut = new StudentSearchCache(100, 30, 300);
+    AtomicInteger loadCount = new AtomicInteger();
+    Supplier<StudentPage> loader = () -> {
+      loadCount.incrementAndGet();
+      return new StudentPage(List.of(detail(1, "loaded")), null);
+    };
+    sut.get("key", loader, resolver);
+
+    sut.invalidateAllAfterCommit();
+    sut.get("key", loader, resolver);
+
+    assertEquals(2, loadCount.get());
+    assertEquals(1, sut.statistics().getInvalidationCount());
+  }
+
+  @Test
+  void 検索中に無効化された検索結果_キャッシュに保持されないこと() {
+    StudentSearchCache sut = new StudentSearchCache(100, 30, 300);
+    AtomicInteger loadCount = new AtomicInteger();
+    Supplier<StudentPage> loader = () -> {
+      if (loadCount.incrementAndGet() == 1) {
+        sut.invalidateAllAfterCommit();
+      }
+      return new StudentPage(List.of(detail(1, "loaded")), null);
+    };
+
+    sut.get("key", loader, resolver);
+    StudentPage actual = sut.get("key", loader, resolver);
+
+    assertEquals(2, loadCount.get());
+    assertEquals("loaded", actual.getStudentDetailList().get(0).getStudent().getName());
+  }
+
+  @Test
+  void キャッシュが無効な場合_毎回検索されること() {
+    StudentSearchCache sut = new StudentSearchCache(0, 30, 300);
+    AtomicInteger loadCount = new AtomicInteger();
+    Supplier<StudentPage> loader = () -> {
+      loadCount.incrementAndGet();
+      return new StudentPage(List.of(), null);
+    };
+
+    sut.get("key", loader, resolver);
+    StudentPage actual = sut.get("key", loader, resolver);
+
+    assertEquals(2, loadCount.get());
+    assertTrue(actual.getStudentDetailList().isEmpty());
+    assertNull(actual.getNextCursor());
+  }
+
+  private StudentDetail detail(int id, String name) {
+    Student student = new Student();
+    student.setId(id);
+    student.setName(name);
+    return new StudentDetail(student, List.of());
+  }
+}
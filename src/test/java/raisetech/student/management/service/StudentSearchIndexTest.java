@@ -0,0 +1,136 @@
+package raisetech.student.management.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import raisetech.student.management.data.Student;
+import raisetech.student.management.repository.MainRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentSearchIndexTest {
+
+  @Mock
+  private MainRepository repository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private Cursor<Student> cursor;
+
+  private StudentSearchIndex sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentSearchIndex(repository, transactionManager, true, 1000);
+  }
+
+  @Test
+  void インデックス構築前は候補を返さずSQL検索に委ねること() {
+    assertNull(sut.candidateIds("Taro Yamada", null));
+  }
+
+  @Test
+  void 氏名とメールアドレスの部分一致で受講生IDの候補が返されること() {
+    buildWith(
+        student(1, "Taro Yamada", "taro@example.com"),
+        student(2, "Hanako Yamada", "hanako@example.com"),
+        student(3, "Ichiro Suzuki", "ichiro@example.com"));
+
+    assertTrue(sut.isReady());
+    assertEquals(List.of(1, 2, 3), sut.candidateIds(null, "example.com"));
+    assertEquals(List.of(1), sut.candidateIds("TARO YA", null));
+    assertEquals(List.of(2), sut.candidateIds(null, "HANAKO@"));
+  }
+
+  @Test
+  void 候補がない時_一致する受講生がいないことを表す空の候補が返されること() {
+    buildWith(student(1, "Taro Yamada", "taro@example.com"));
+
+    assertEquals(List.of(), sut.candidateIds("Taro", "ichiro"));
+  }
+
+  @Test
+  void ASCII以外の文字を含む値_照合順序で一致しうるため検索文字列に関わらず候補に含まれること() {
+    buildWith(
+        student(1, "José García", "jose@example.com"),
+        student(2, "Strauß", "strauss@example.com"),
+        student(3, "ｊｏｈｎ", "john@example.com"),
+        student(4, "山田太郎", "taro@example.com"),
+        student(5, "Taro Yamada", "yamada@example.com"));
+
+    assertEquals(List.of(1, 2, 3, 4), sut.candidateIds("jose", null));
+    assertEquals(List.of(1, 2, 3, 4), sut.candidateIds("STRAUSS", null));
+    assertEquals(List.of(1, 2, 3, 4, 5), sut.candidateIds("yamada", null));
+    assertEquals(List.of(2), sut.candidateIds("strauss", "strauss@"));
+  }
+
+  @Test
+  void 検索文字列にASCII以外の文字を含む時_候補を返さずSQL検索に委ねること() {
+    buildWith(student(1, "山田太郎", "taro@example.com"));
+
+    assertNull(sut.candidateIds("山田太郎", null));
+    assertNull(sut.candidateIds(null, "ｔａｒｏ@"));
+  }
+
+  @Test
+  void 検索文字列にLIKE条件のワイルドカードを含む時_候補を返さずSQL検索に委ねること() {
+    buildWith(student(1, "Taro Yamada", "taro_y@example.com"));
+
+    assertNull(sut.candidateIds("Taro%Yamada", null));
+    assertNull(sut.candidateIds(null, "taro_y"));
+  }
+
+  @Test
+  void 検索文字列が3文字未満の時_候補を返さずSQL検索に委ねること() {
+    buildWith(student(1, "Taro Yamada", "taro@example.com"));
+
+    assertNull(sut.candidateIds("Ta", null));
+    assertNull(sut.candidateIds(null, null));
+  }
+
+  @Test
+  void 受講生の更新が反映され_更新前の氏名では候補に含まれないこと() {
+    buildWith(student(1, "Taro Yamada", "taro@example.com"));
+
+    sut.indexAfterCommit(student(1, "Taro Sato", "taro@example.com"));
+
+    assertEquals(List.of(), sut.candidateIds("Yamada", null));
+    assertEquals(List.of(1), sut.candidateIds("Sato", null));
+  }
+
+  @Test
+  void ASCII以外の文字を含む氏名からASCIIだけの氏名に更新した時_部分一致で判定されること() {
+    buildWith(student(1, "José García", "jose@example.com"));
+
+    sut.indexAfterCommit(student(1, "Jose Garcia", "jose@example.com"));
+
+    assertEquals(List.of(), sut.candidateIds("Yamada", null));
+    assertEquals(List.of(1), sut.candidateIds("garcia", null));
+  }
+
+  private void buildWith(Student... students) {
+    when(cursor.iterator()).thenReturn(List.of(students).iterator());
+    when(repository.streamAllStudents()).thenReturn(cursor);
+    sut.build();
+  }
+
+  private Student student(int id, String name, String emailAddress) {
+    Student student = new Student();
+    student.setId(id);
+    student.setName(name);
+    student.setKanaName("テスト");
+    student.setEmailAddress(emailAddress);
+    return student;
+  }
+}
@@ -0,0 +1,95 @@
+package raisetech.student.management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.management.config.VirtualThreadPinningMonitor;
+import raisetech.student.management.controller.converter.MainConverter;
+import raisetech.student.management.domain.StudentDetail;
+import raisetech.student.management.repository.MainRepository;
+
+/**
+ * MainServiceの検索処理（MyBatisのマッパー経由）を多数の仮想スレッドから同時に実行し、
+ * キャリアスレッドへの固定（pinning）が起きないことを確認します。
+ * テストではMySQLの代わりにH2を使用するため、H2のドライバー内部だけで発生した固定は対象外としますが、
+ * MyBatis・Hikari・アプリケーションのフレームを含む固定は、H2のフレームを含んでいても検出します
+ * （MyBatisなどのsynchronizedブロック内でH2が待機した場合も、固定の原因はMyBatis側にあるため）。
+ */
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class VirtualThreadPinningTest {
+
+  @Autowired
+  private MainRepository repository;
+
+  @Autowired
+  private DataSource dataSource;
+
+  private ParallelQueryExecutor queryExecutor;
+
+  private VirtualThreadPinningMonitor monitor;
+
+  /** 固定の原因として検出する、H2以外のフレームのパッケージです。 */
+  private static final List<String> APPLICATION_PACKAGES = List.of(
+      "org.apache.ibatis.", "org.mybatis.", "com.zaxxer.hikari.", "raisetech.student.management.");
+
+  private MainService sut;
+
+  @BeforeEach
+  void before() {
+    queryExecutor = new ParallelQueryExecutor(true, 8);
+    sut = new MainService(
+        repository, new MainConverter(), new StudentDetailCache(0, 300), queryExecutor,
+        new StudentSearchIndex(repository, new DataSourceTransactionManager(dataSource), false, 1000),
+        new RequestCoalescer(true, 3000), new StudentDetailUpdater(repository),
+        new StudentSearchCache(0, 30, 300), new EnrollmentCounter(repository, 0), false);
+    monitor = new VirtualThreadPinningMonitor(0, 100);
+    monitor.afterPropertiesSet();
+  }
+
+  @AfterEach
+  void after() {
+    monitor.destroy();
+    queryExecutor.destroy();
+  }
+
+  @Test
+  void 仮想スレッドから同時に検索した時_キャリアスレッドに固定されないこと() throws Exception {
+    List<Future<StudentDetail>> futureList = new ArrayList<>();
+    List<Future<?>> listFutureList = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 200; i++) {
+        futureList.add(executor.submit(() -> sut.searchStudentId(1)));
+        listFutureList.add(executor.submit(() -> sut.searchStudentList(null, null, null, "Java", null)));
+        listFutureList.add(executor.submit(() -> sut.searchStudentPage(null, null, null, null, null, null, 10)));
+      }
+    }
+    for (Future<StudentDetail> future : futureList) {
+      assertThat(future.get().getStudent().getName()).isEqualTo("山田太郎");
+    }
+    for (Future<?> future : listFutureList) {
+      assertThat(future.get()).isNotNull();
+    }
+    monitor.destroy();
+
+    assertThat(monitor.recentStackTraces())
+        .filteredOn(stackTrace -> APPLICATION_PACKAGES.stream().anyMatch(stackTrace::contains))
+        .isEmpty();
+  }
+}